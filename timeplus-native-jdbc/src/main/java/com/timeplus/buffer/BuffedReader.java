@@ -15,10 +15,38 @@
 package com.timeplus.buffer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public interface BuffedReader {
 
     int readBinary() throws IOException;
 
-    int readBinary(byte[] bytes) throws IOException;
+    default int readBinary(byte[] bytes) throws IOException {
+        return readBinary(bytes, 0, bytes.length);
+    }
+
+    int readBinary(byte[] bytes, int offset, int length) throws IOException;
+
+    /**
+     * Make at least {@code n} bytes available and return the window of the buffer backing the reader: a little
+     * endian buffer positioned at the next unread byte with at least {@code n} bytes remaining. The caller reads
+     * exactly {@code n} bytes from it, which consumes them from the reader. The window is only valid until the
+     * next call to the reader, and {@code n} is meant for a primitive, it must not exceed the reader's capacity.
+     *
+     * <p>
+     * The default copies the bytes into a new buffer, readers backed by a buffer return it instead.
+     * </p>
+     */
+    default ByteBuffer window(int n) throws IOException {
+        byte[] bytes = new byte[n];
+        readBinary(bytes, 0, n);
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Give back pooled memory held by the reader, it must not be used afterwards.
+     */
+    default void release() {
+    }
 }
@@ -15,6 +15,9 @@
 package com.timeplus.buffer;
 
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 public interface BuffedWriter {
 
@@ -22,5 +25,23 @@ public interface BuffedWriter {
 
     void writeBinary(byte[] bytes, int offset, int length) throws IOException;
 
+    /**
+     * Write the remaining bytes of each heap buffer in order, leaving the buffers consumed.
+     * Implementations may hand the buffers over without copying them.
+     */
+    default void writeBinary(List<ByteBuffer> buffers) throws IOException {
+        for (ByteBuffer buffer : buffers) {
+            writeBinary(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            // upcast is necessary, see ByteArrayWriter#reset
+            ((Buffer) buffer).position(buffer.limit());
+        }
+    }
+
     void flushToTarget(boolean force) throws IOException;
+
+    /**
+     * Give back pooled memory held by the writer, it must not be used afterwards.
+     */
+    default void release() {
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Pool of byte arrays that can be recycled between connections.
+ *
+ * <p>
+ * The pool is thread-safe and can be used by multiple threads or connections. Arrays are grouped by
+ * their length, so connections configured with different buffer sizes never share an array.
+ * </p>
+ */
+public class ByteArrayPool {
+
+    private static final ByteArrayPool INSTANCE = new ByteArrayPool();
+
+    public static ByteArrayPool getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<Integer, Deque<byte[]>> stacks = new ConcurrentHashMap<>();
+
+    private ByteArrayPool() {
+    }
+
+    /**
+     * Obtain a byte array of exactly {@code capacity} bytes, reusing a recycled one if available.
+     * The content of a reused array is undefined.
+     */
+    public byte[] getBuffer(int capacity) {
+        byte[] pop = stack(capacity).pollLast();
+        return pop == null ? new byte[capacity] : pop;
+    }
+
+    public void recycleBuffer(byte[] buffer) {
+        stack(buffer.length).addLast(buffer);
+    }
+
+    /**
+     * Clear all buffers to free the buffered memory
+     * This method is exported to be called by users manually
+     */
+    public void clearAllBuffers() {
+        stacks.clear();
+    }
+
+    private Deque<byte[]> stack(int capacity) {
+        return stacks.computeIfAbsent(capacity, c -> new ConcurrentLinkedDeque<>());
+    }
+}
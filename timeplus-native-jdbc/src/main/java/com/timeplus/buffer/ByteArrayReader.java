@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reads bytes already in memory, e.g. a column of a result block kept encoded until it is accessed.
+ */
+public class ByteArrayReader implements BuffedReader {
+
+    private final ByteBuffer buf;
+
+    public ByteArrayReader(byte[] bytes, int offset, int length) {
+        this.buf = ByteBuffer.wrap(bytes, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public int readBinary() throws IOException {
+        ensure(1);
+        return buf.get() & 0xFF;
+    }
+
+    @Override
+    public int readBinary(byte[] bytes, int offset, int length) throws IOException {
+        ensure(length);
+        buf.get(bytes, offset, length);
+        return length;
+    }
+
+    @Override
+    public ByteBuffer window(int n) throws IOException {
+        ensure(n);
+        return buf;
+    }
+
+    private void ensure(int n) throws EOFException {
+        if (buf.remaining() < n) {
+            throw new EOFException("Attempt to read after eof.");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Reads from a non-blocking {@link SocketChannel} straight into a pooled direct buffer.
+ *
+ * <p>
+ * Channel reads ignore {@code SO_TIMEOUT}, so the reader waits on its own selector and honours the timeout
+ * configured on {@link SocketChannel#socket()}, which keeps {@code NativeClient} transport agnostic.
+ * </p>
+ */
+public class ChannelBuffedReader implements BuffedReader {
+
+    private final SocketChannel channel;
+    private final Selector selector;
+
+    private ByteBuffer buf;
+
+    public ChannelBuffedReader(SocketChannel channel, int capacity) throws IOException {
+        this.channel = channel;
+        this.selector = Selector.open();
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_READ);
+
+        this.buf = DirectBufferPool.getInstance().getBuffer(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        ((Buffer) buf).limit(0);
+    }
+
+    @Override
+    public int readBinary() throws IOException {
+        if (!buf.hasRemaining()) {
+            refill();
+        }
+        return buf.get() & 0xFF;
+    }
+
+    @Override
+    public int readBinary(byte[] bytes, int offset, int length) throws IOException {
+        for (int i = 0; i < length; ) {
+            if (!buf.hasRemaining()) {
+                refill();
+            }
+
+            int fillLength = Math.min(length - i, buf.remaining());
+            buf.get(bytes, offset + i, fillLength);
+            i += fillLength;
+        }
+        return length;
+    }
+
+    @Override
+    public ByteBuffer window(int n) throws IOException {
+        if (buf.remaining() < n) {
+            fill(n);
+        }
+        return buf;
+    }
+
+    @Override
+    public void release() {
+        if (buf != null) {
+            DirectBufferPool.getInstance().recycleBuffer(buf);
+            buf = null;
+        }
+        try {
+            selector.close();
+        } catch (IOException ignore) {
+            // nothing to do, the channel is being closed as well
+        }
+    }
+
+    private void refill() throws IOException {
+        fill(1);
+    }
+
+    // moves the unread bytes to the front and reads until at least min bytes are available
+    private void fill(int min) throws IOException {
+        buf.compact();
+        while (buf.position() < min) {
+            int n = channel.read(buf);
+            if (n < 0) {
+                ((Buffer) buf).flip();
+                throw new EOFException("Attempt to read after eof.");
+            }
+            if (n == 0) {
+                int timeout = channel.socket().getSoTimeout();
+                if (selector.select(timeout) == 0 && timeout > 0) {
+                    ((Buffer) buf).flip();
+                    throw new SocketTimeoutException("Read timed out");
+                }
+                selector.selectedKeys().clear();
+            }
+        }
+        ((Buffer) buf).flip();
+    }
+}
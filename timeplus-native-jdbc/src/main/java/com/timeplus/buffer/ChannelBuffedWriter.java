@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+/**
+ * Coalesces writes into a pooled direct buffer and hands them to a non-blocking {@link SocketChannel}.
+ *
+ * <p>
+ * Chunks which do not fit into the buffer are sent together with the pending bytes by one gathering
+ * {@link SocketChannel#write(ByteBuffer[])} instead of being copied into the buffer first.
+ * </p>
+ */
+public class ChannelBuffedWriter implements BuffedWriter {
+
+    private final int capacity;
+    private final SocketChannel channel;
+    private final Selector selector;
+    private final ByteBuffer[] gather = new ByteBuffer[2];
+
+    private ByteBuffer buf;
+
+    public ChannelBuffedWriter(SocketChannel channel, int capacity) throws IOException {
+        this.capacity = capacity;
+        this.channel = channel;
+        this.selector = Selector.open();
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_WRITE);
+
+        this.buf = DirectBufferPool.getInstance().getBuffer(capacity);
+    }
+
+    @Override
+    public void writeBinary(byte byt) throws IOException {
+        if (!buf.hasRemaining()) {
+            drain();
+        }
+        buf.put(byt);
+    }
+
+    @Override
+    public void writeBinary(byte[] bytes, int offset, int length) throws IOException {
+        if (length <= buf.remaining()) {
+            buf.put(bytes, offset, length);
+            return;
+        }
+        if (length < capacity) {
+            drain();
+            buf.put(bytes, offset, length);
+            return;
+        }
+
+        ((Buffer) buf).flip();
+        gather[0] = buf;
+        gather[1] = ByteBuffer.wrap(bytes, offset, length);
+        try {
+            writeFully(gather);
+        } finally {
+            gather[1] = null;
+            ((Buffer) buf).clear();
+        }
+    }
+
+    @Override
+    public void writeBinary(List<ByteBuffer> buffers) throws IOException {
+        // empty chunks are left out, a full last chunk is followed by an empty one
+        int count = 1;
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                count++;
+            }
+        }
+        ByteBuffer[] srcs = new ByteBuffer[count];
+        ((Buffer) buf).flip();
+        srcs[0] = buf;
+        count = 1;
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                srcs[count++] = buffer;
+            }
+        }
+        try {
+            writeFully(srcs);
+        } finally {
+            ((Buffer) buf).clear();
+        }
+    }
+
+    @Override
+    public void flushToTarget(boolean force) throws IOException {
+        if (force) {
+            drain();
+        }
+    }
+
+    @Override
+    public void release() {
+        if (buf != null) {
+            DirectBufferPool.getInstance().recycleBuffer(buf);
+            buf = null;
+        }
+        try {
+            selector.close();
+        } catch (IOException ignore) {
+            // nothing to do, the channel is being closed as well
+        }
+    }
+
+    private void drain() throws IOException {
+        if (buf.position() == 0) {
+            return;
+        }
+        ((Buffer) buf).flip();
+        while (buf.hasRemaining()) {
+            if (channel.write(buf) == 0) {
+                awaitWritable();
+            }
+        }
+        ((Buffer) buf).clear();
+    }
+
+    private void writeFully(ByteBuffer[] srcs) throws IOException {
+        long remaining = 0;
+        for (ByteBuffer src : srcs) {
+            remaining += src.remaining();
+        }
+        while (remaining > 0) {
+            long written = channel.write(srcs);
+            if (written == 0) {
+                awaitWritable();
+            }
+            remaining -= written;
+        }
+    }
+
+    private void awaitWritable() throws IOException {
+        selector.select();
+        selector.selectedKeys().clear();
+    }
+}
@@ -15,6 +15,9 @@
 package com.timeplus.buffer;
 
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.timeplus.misc.BytesHelper;
 import io.airlift.compress.Decompressor;
@@ -26,9 +29,14 @@ import static com.timeplus.settings.TimeplusDefines.COMPRESSION_HEADER_LENGTH;
 
 public class CompressedBuffedReader implements BuffedReader, BytesHelper {
 
-    private int position;
-    private int capacity;
-    private byte[] decompressed;
+    private long decompressedBytes;
+
+    // frame buffers are owned by the reader and grow to the largest frame seen, so decoding does not allocate
+    private final byte[] header = new byte[CHECKSUM_LENGTH + COMPRESSION_HEADER_LENGTH];
+    private byte[] compressed = new byte[0];
+    private byte[] decompressed = new byte[0];
+    // wraps decompressed, the limit is the end of the current frame and the position the next unread byte
+    private ByteBuffer window = ByteBuffer.wrap(decompressed).order(ByteOrder.LITTLE_ENDIAN);
 
     private final BuffedReader buf;
 
@@ -41,35 +49,44 @@ public class CompressedBuffedReader implements BuffedReader, BytesHelper {
 
     @Override
     public int readBinary() throws IOException {
-        if (position == capacity) {
-            decompressed = readCompressedData();
-            this.position = 0;
-            this.capacity = decompressed.length;
+        if (!window.hasRemaining()) {
+            readCompressedData(0);
         }
 
-        return decompressed[position++];
+        return window.get();
     }
 
     @Override
-    public int readBinary(byte[] bytes) throws IOException {
-        for (int i = 0; i < bytes.length; ) {
-            if (position == capacity) {
-                decompressed = readCompressedData();
-                this.position = 0;
-                this.capacity = decompressed.length;
+    public int readBinary(byte[] bytes, int offset, int length) throws IOException {
+        for (int i = 0; i < length; ) {
+            if (!window.hasRemaining()) {
+                readCompressedData(0);
             }
 
-            int padding = bytes.length - i;
-            int fillLength = Math.min(padding, capacity - position);
-
-            if (fillLength > 0) {
-                System.arraycopy(decompressed, position, bytes, i, fillLength);
+            int fillLength = Math.min(length - i, window.remaining());
+            window.get(bytes, offset + i, fillLength);
+            i += fillLength;
+        }
+        return length;
+    }
 
-                i += fillLength;
-                this.position += fillLength;
-            }
+    /**
+     * A primitive split between two frames is joined by moving the tail of the current frame in front of the
+     * next one.
+     */
+    @Override
+    public ByteBuffer window(int n) throws IOException {
+        while (window.remaining() < n) {
+            readCompressedData(window.remaining());
         }
-        return bytes.length;
+        return window;
+    }
+
+    /**
+     * Running total of bytes decompressed by this reader.
+     */
+    public long decompressedBytes() {
+        return decompressedBytes;
     }
 
     // @formatter:off
@@ -78,50 +95,71 @@ public class CompressedBuffedReader implements BuffedReader, BytesHelper {
     private static final int ZSTD = 0x90;
     // @formatter:on
 
-    private byte[] readCompressedData() throws IOException {
+    /**
+     * Read the next frame into {@link #decompressed} behind the last {@code keep} unread bytes of the window,
+     * which are moved to the front.
+     */
+    private void readCompressedData(int keep) throws IOException {
         //TODO: validate checksum
-        buf.readBinary(new byte[CHECKSUM_LENGTH]);
-
-        byte[] compressedHeader = new byte[COMPRESSION_HEADER_LENGTH];
-
-        if (buf.readBinary(compressedHeader) != COMPRESSION_HEADER_LENGTH) {
+        if (buf.readBinary(header) != header.length) {
             throw new IOException("Invalid compression header");
         }
 
-        int method = compressedHeader[0] & 0x0FF;
-        int compressedSize = getIntLE(compressedHeader, 1);
-        int decompressedSize = getIntLE(compressedHeader, 5);
+        int method = header[CHECKSUM_LENGTH] & 0x0FF;
+        int compressedSize = getIntLE(header, CHECKSUM_LENGTH + 1);
+        int decompressedSize = getIntLE(header, CHECKSUM_LENGTH + 5);
+
+        decompressedBytes += decompressedSize;
+        if (decompressed.length < keep + decompressedSize) {
+            byte[] grown = new byte[keep + decompressedSize];
+            System.arraycopy(decompressed, window.position(), grown, 0, keep);
+            decompressed = grown;
+            window = ByteBuffer.wrap(decompressed).order(ByteOrder.LITTLE_ENDIAN);
+        } else if (keep > 0) {
+            System.arraycopy(decompressed, window.position(), decompressed, 0, keep);
+        }
 
         switch (method) {
             case LZ4:
-                return readLZ4CompressedData(compressedSize - COMPRESSION_HEADER_LENGTH, decompressedSize);
+                readLZ4CompressedData(compressedSize - COMPRESSION_HEADER_LENGTH, keep, decompressedSize);
+                break;
+            case ZSTD:
+                readZSTDCompressedData(compressedSize - COMPRESSION_HEADER_LENGTH, keep, decompressedSize);
+                break;
             case NONE:
-                return readNoneCompressedData(decompressedSize);
+                readNoneCompressedData(keep, decompressedSize);
+                break;
             default:
                 throw new UnsupportedOperationException("Unknown compression magic code: " + method);
         }
+        // upcast is necessary, see ByteArrayWriter#reset
+        ((Buffer) window).limit(keep + decompressedSize);
+        ((Buffer) window).position(0);
     }
 
-    private byte[] readNoneCompressedData(int size) throws IOException {
-        byte[] decompressed = new byte[size];
-
-        if (buf.readBinary(decompressed) != size) {
+    private void readNoneCompressedData(int offset, int size) throws IOException {
+        if (buf.readBinary(decompressed, offset, size) != size) {
             throw new IOException("Cannot decompress use None method.");
         }
-
-        return decompressed;
     }
 
-    private byte[] readLZ4CompressedData(int compressedSize, int decompressedSize) throws IOException {
-        byte[] compressed = new byte[compressedSize];
-        if (buf.readBinary(compressed) == compressedSize) {
-            byte[] decompressed = new byte[decompressedSize];
+    private void readLZ4CompressedData(int compressedSize, int offset, int decompressedSize) throws IOException {
+        if (!readDecompressed(lz4Decompressor, compressedSize, offset, decompressedSize)) {
+            throw new IOException("Cannot decompress use LZ4 method.");
+        }
+    }
 
-            if (lz4Decompressor.decompress(compressed, 0, compressedSize, decompressed, 0, decompressedSize) == decompressedSize) {
-                return decompressed;
-            }
+    private void readZSTDCompressedData(int compressedSize, int offset, int decompressedSize) throws IOException {
+        if (!readDecompressed(zstdDecompressor, compressedSize, offset, decompressedSize)) {
+            throw new IOException("Cannot decompress use ZSTD method.");
         }
+    }
 
-        throw new IOException("Cannot decompress use LZ4 method.");
+    private boolean readDecompressed(Decompressor decompressor, int compressedSize, int offset, int decompressedSize) throws IOException {
+        if (compressed.length < compressedSize) {
+            compressed = new byte[compressedSize];
+        }
+        return buf.readBinary(compressed, 0, compressedSize) == compressedSize
+                && decompressor.decompress(compressed, 0, compressedSize, decompressed, offset, decompressedSize) == decompressedSize;
     }
 }
@@ -20,71 +20,295 @@ import io.airlift.compress.Compressor;
 import io.airlift.compress.lz4.Lz4Compressor;
 import io.airlift.compress.zstd.ZstdCompressor;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static com.timeplus.settings.TimeplusDefines.CHECKSUM_LENGTH;
 import static com.timeplus.settings.TimeplusDefines.COMPRESSION_HEADER_LENGTH;
 
 public class CompressedBuffedWriter implements BuffedWriter, BytesHelper {
 
+    private static final int ADAPTIVE_SAMPLE_INTERVAL = 8;
+
+    private static final Map<Integer, ForkJoinPool> SHARED_POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Pool shared by all writers configured with the same `compression_parallelism`.
+     */
+    public static ForkJoinPool sharedPool(int parallelism) {
+        return SHARED_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
     private final int capacity;
-    private final byte[] writtenBuf;
     private final BuffedWriter writer;
 
-    private final Compressor lz4Compressor = new Lz4Compressor();
-    private final Compressor zstdCompressor = new ZstdCompressor();
+    private final CompressionMethod method;
+    private final float minRatio;
 
+    // used on the calling thread, compresses straight from the caller's array when possible
+    private final Frame frame;
+
+    // with a pool, full buffers are compressed concurrently and their frames written out in order
+    @Nullable
+    private final ForkJoinPool pool;
+    private final byte[][] staged;
+    private final Frame[] stagedFrames;
+    private final ForkJoinTask<?>[] tasks;
+    private int head;
+    private int inFlight;
+    private int current;
+
+    private byte[] writtenBuf;
     private int position;
 
+    // frames sent as NONE without compressing them before the ratio is sampled again
+    private int skipCountdown;
+    private long compressedFrames;
+    private long skippedFrames;
+    private long stagedBytes;
+
     public CompressedBuffedWriter(int capacity, BuffedWriter writer) {
+        this(capacity, writer, CompressionMethod.LZ4);
+    }
+
+    public CompressedBuffedWriter(int capacity, BuffedWriter writer, CompressionMethod method) {
+        this(capacity, writer, method, 0, null);
+    }
+
+    /**
+     * @param minRatio frames whose compression ratio (uncompressed / compressed size) falls below it are sent
+     *                 as NONE frames, and the following frames skip compression until the ratio is sampled again;
+     *                 0 always compresses
+     * @param pool     compresses the frames of large blocks concurrently when given, the ratio is then checked
+     *                 for every frame
+     */
+    public CompressedBuffedWriter(int capacity, BuffedWriter writer, CompressionMethod method, float minRatio,
+                                  @Nullable ForkJoinPool pool) {
+        if (method == CompressionMethod.NONE) {
+            throw new IllegalArgumentException("Unsupported compression method: " + method);
+        }
         this.capacity = capacity;
-        this.writtenBuf = new byte[capacity];
         this.writer = writer;
+        this.method = method;
+        this.minRatio = minRatio;
+        this.frame = new Frame();
+        this.pool = pool;
+
+        if (pool == null) {
+            this.staged = null;
+            this.stagedFrames = null;
+            this.tasks = null;
+            this.writtenBuf = new byte[capacity];
+        } else {
+            int slots = Math.max(2, pool.getParallelism());
+            this.staged = new byte[slots][];
+            this.stagedFrames = new Frame[slots];
+            this.tasks = new ForkJoinTask<?>[slots];
+            for (int i = 0; i < slots; i++) {
+                staged[i] = new byte[capacity];
+                stagedFrames[i] = new Frame();
+            }
+            this.writtenBuf = staged[current];
+        }
     }
 
     @Override
     public void writeBinary(byte byt) throws IOException {
         writtenBuf[position++] = byt;
+        stagedBytes++;
         flushToTarget(false);
     }
 
     @Override
     public void writeBinary(byte[] bytes, int offset, int length) throws IOException {
-        while (remaining() < length) {
-            int num = remaining();
-            System.arraycopy(bytes, offset, writtenBuf, position, remaining());
+        if (pool != null) {
+            // staged, the caller's array may be reused before the pool gets to it
+            while (length > 0) {
+                int num = Math.min(remaining(), length);
+                System.arraycopy(bytes, offset, writtenBuf, position, num);
+                position += num;
+                stagedBytes += num;
+
+                flushToTarget(false);
+                offset += num;
+                length -= num;
+            }
+            return;
+        }
+
+        if (position > 0) {
+            int num = Math.min(remaining(), length);
+            System.arraycopy(bytes, offset, writtenBuf, position, num);
             position += num;
+            stagedBytes += num;
 
             flushToTarget(false);
             offset += num;
             length -= num;
         }
 
+        // whole frames are compressed straight from the caller's array instead of being staged in writtenBuf
+        while (length >= capacity) {
+            writeFrame(bytes, offset, capacity);
+            offset += capacity;
+            length -= capacity;
+        }
+
         System.arraycopy(bytes, offset, writtenBuf, position, length);
         position += length;
-        flushToTarget(false);
+        stagedBytes += length;
+    }
+
+    /**
+     * Chunks of at least half a frame are compressed straight from their arrays, the bytes staged before them are
+     * sent as a frame of their own. Only smaller chunks are staged, so the header bytes written between columns do
+     * not shift the column chunks off the frame boundaries and force a copy of every one of them.
+     */
+    @Override
+    public void writeBinary(List<ByteBuffer> buffers) throws IOException {
+        boolean direct = false;
+        for (ByteBuffer buffer : buffers) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            int length = buffer.remaining();
+            if (length < capacity / 2) {
+                writeBinary(buffer.array(), offset, length);
+            } else {
+                sendStaged();
+                while (length > 0) {
+                    int num = Math.min(capacity, length);
+                    if (pool == null) {
+                        writeFrame(buffer.array(), offset, num);
+                    } else {
+                        submit(buffer.array(), offset, num);
+                    }
+                    offset += num;
+                    length -= num;
+                }
+                direct = true;
+            }
+            // upcast is necessary, see ByteArrayWriter#reset
+            ((Buffer) buffer).position(buffer.limit());
+        }
+        // the caller may reuse the chunks once they are consumed, the frames compressed from them must be done
+        if (direct) {
+            while (inFlight > 0) {
+                writeOldest();
+            }
+        }
     }
 
     @Override
     public void flushToTarget(boolean force) throws IOException {
-        if (position > 0 && (force || !hasRemaining())) {
-            int maxLen = lz4Compressor.maxCompressedLength(position);
+        if (pool == null) {
+            if (position > 0 && (force || !hasRemaining())) {
+                writeFrame(writtenBuf, 0, position);
+                position = 0;
+            }
+            return;
+        }
+
+        if (position > 0 && !hasRemaining()) {
+            submitStaged();
+        }
+        if (force) {
+            if (position > 0 && inFlight == 0) {
+                // a single frame is not worth a trip through the pool
+                writeFrame(writtenBuf, 0, position);
+                position = 0;
+            } else if (position > 0) {
+                submitStaged();
+            }
+            while (inFlight > 0) {
+                writeOldest();
+            }
+        }
+    }
 
-            byte[] compressedBuffer = new byte[maxLen + COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH];
-            int res = lz4Compressor.compress(writtenBuf, 0, position, compressedBuffer, COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH, maxLen);
+    /**
+     * Number of frames sent compressed.
+     */
+    public long compressedFrames() {
+        return compressedFrames;
+    }
 
-            compressedBuffer[CHECKSUM_LENGTH] = (byte) (0x82 & 0xFF);
-            int compressedSize = res + COMPRESSION_HEADER_LENGTH;
-            System.arraycopy(getBytesLE(compressedSize), 0, compressedBuffer, CHECKSUM_LENGTH + 1, Integer.BYTES);
-            System.arraycopy(getBytesLE(position), 0, compressedBuffer, CHECKSUM_LENGTH + Integer.BYTES + 1, Integer.BYTES);
+    /**
+     * Number of frames sent as NONE because their data did not compress well enough.
+     */
+    public long skippedFrames() {
+        return skippedFrames;
+    }
 
-            long[] checksum = TimeplusCityHash.cityHash128(compressedBuffer, CHECKSUM_LENGTH, compressedSize);
-            System.arraycopy(getBytesLE(checksum[0]), 0, compressedBuffer, 0, Long.BYTES);
-            System.arraycopy(getBytesLE(checksum[1]), 0, compressedBuffer, Long.BYTES, Long.BYTES);
+    /**
+     * Number of bytes copied into the staging buffer instead of being compressed straight from the caller's array.
+     */
+    public long stagedBytes() {
+        return stagedBytes;
+    }
 
-            writer.writeBinary(compressedBuffer, 0, compressedSize + CHECKSUM_LENGTH);
+    private void sendStaged() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        if (pool == null) {
+            writeFrame(writtenBuf, 0, position);
             position = 0;
+        } else {
+            submitStaged();
+        }
+    }
+
+    private void submitStaged() throws IOException {
+        submit(staged[current], 0, position);
+    }
+
+    private void submit(byte[] src, int offset, int length) throws IOException {
+        final int slot = current;
+        tasks[slot] = pool.submit(() -> stagedFrames[slot].encode(src, offset, length, true));
+        inFlight++;
+
+        current = (current + 1) % staged.length;
+        if (inFlight == staged.length) {
+            writeOldest();
+        }
+        writtenBuf = staged[current];
+        position = 0;
+    }
+
+    private void writeOldest() throws IOException {
+        tasks[head].join();
+        tasks[head] = null;
+        writeOut(stagedFrames[head]);
+        head = (head + 1) % staged.length;
+        inFlight--;
+    }
+
+    private void writeFrame(byte[] src, int offset, int length) throws IOException {
+        boolean sample = skipCountdown == 0;
+        if (!sample) {
+            skipCountdown--;
         }
+
+        frame.encode(src, offset, length, sample);
+        if (sample && !frame.compressed) {
+            skipCountdown = ADAPTIVE_SAMPLE_INTERVAL - 1;
+        }
+        writeOut(frame);
+    }
+
+    private void writeOut(Frame encoded) throws IOException {
+        if (encoded.compressed) {
+            compressedFrames++;
+        } else {
+            skippedFrames++;
+        }
+        writer.writeBinary(encoded.bytes, 0, encoded.size);
     }
 
     private boolean hasRemaining() {
@@ -94,4 +318,53 @@ public class CompressedBuffedWriter implements BuffedWriter, BytesHelper {
     private int remaining() {
         return capacity - position;
     }
+
+    private Compressor newCompressor() {
+        switch (method) {
+            case LZ4:
+                return new Lz4Compressor();
+            case ZSTD:
+                return new ZstdCompressor();
+            default:
+                throw new IllegalArgumentException("Unsupported compression method: " + method);
+        }
+    }
+
+    /**
+     * One output frame sized for a full buffer, header and checksum are written in place.
+     * Compressors are not thread safe, so every frame owns one.
+     */
+    private final class Frame {
+        private final Compressor compressor = newCompressor();
+        private final byte[] bytes = new byte[CHECKSUM_LENGTH + COMPRESSION_HEADER_LENGTH + compressor.maxCompressedLength(capacity)];
+        private final long[] checksum = new long[4];
+        private int size;
+        private boolean compressed;
+
+        void encode(byte[] src, int offset, int length, boolean tryCompress) {
+            int payloadSize = 0;
+            compressed = false;
+            if (tryCompress) {
+                int maxLen = bytes.length - COMPRESSION_HEADER_LENGTH - CHECKSUM_LENGTH;
+                payloadSize = compressor.compress(src, offset, length, bytes, COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH, maxLen);
+                compressed = !(length < minRatio * payloadSize);
+            }
+            if (!compressed) {
+                // maxCompressedLength of every codec exceeds its input, so the raw data always fits into the frame
+                System.arraycopy(src, offset, bytes, COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH, length);
+                payloadSize = length;
+            }
+
+            bytes[CHECKSUM_LENGTH] = (byte) ((compressed ? method : CompressionMethod.NONE).code() & 0xFF);
+            int compressedSize = payloadSize + COMPRESSION_HEADER_LENGTH;
+            setIntLE(bytes, CHECKSUM_LENGTH + 1, compressedSize);
+            setIntLE(bytes, CHECKSUM_LENGTH + Integer.BYTES + 1, length);
+
+            TimeplusCityHash.cityHash128(bytes, CHECKSUM_LENGTH, compressedSize, checksum);
+            setLongLE(bytes, 0, checksum[0]);
+            setLongLE(bytes, Long.BYTES, checksum[1]);
+
+            size = compressedSize + CHECKSUM_LENGTH;
+        }
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.util.Locale;
+
+/**
+ * Compression methods of the native protocol, the code is the method byte of a compressed frame header.
+ */
+public enum CompressionMethod {
+    NONE(0x02),
+    LZ4(0x82),
+    ZSTD(0x90);
+
+    private final int code;
+
+    CompressionMethod(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Parse the `compression_method` connection property (none/lz4/zstd), case insensitive.
+     */
+    public static CompressionMethod of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Pool of direct {@link ByteBuffer}s that can be recycled between connections.
+ *
+ * <p>
+ * Allocating and freeing off-heap memory is expensive, so the NIO transport keeps its buffers here once a
+ * connection is closed. The pool is thread-safe and groups buffers by their capacity.
+ * </p>
+ */
+public class DirectBufferPool {
+
+    private static final DirectBufferPool INSTANCE = new DirectBufferPool();
+
+    public static DirectBufferPool getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<Integer, Deque<ByteBuffer>> stacks = new ConcurrentHashMap<>();
+
+    private DirectBufferPool() {
+    }
+
+    /**
+     * Obtain a cleared direct buffer of exactly {@code capacity} bytes, reusing a recycled one if available.
+     */
+    public ByteBuffer getBuffer(int capacity) {
+        ByteBuffer pop = stack(capacity).pollLast();
+        if (pop == null) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+        // upcast is necessary, see ByteArrayWriter#reset
+        ((Buffer) pop).clear();
+        return pop.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    public void recycleBuffer(ByteBuffer buffer) {
+        stack(buffer.capacity()).addLast(buffer);
+    }
+
+    /**
+     * Clear all buffers to free the buffered memory
+     * This method is exported to be called by users manually
+     */
+    public void clearAllBuffers() {
+        stacks.clear();
+    }
+
+    private Deque<ByteBuffer> stack(int capacity) {
+        return stacks.computeIfAbsent(capacity, c -> new ConcurrentLinkedDeque<>());
+    }
+}
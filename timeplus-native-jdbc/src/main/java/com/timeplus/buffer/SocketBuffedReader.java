@@ -20,6 +20,9 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.Socket;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public class SocketBuffedReader implements BuffedReader {
 
@@ -27,60 +30,74 @@ public class SocketBuffedReader implements BuffedReader {
     private final byte[] buf;
     private final InputStream in;
 
-    private int limit;
-    private int position;
+    // wraps buf, the limit is the end of the bytes read and the position the next unread byte
+    private final ByteBuffer window;
 
     public SocketBuffedReader(Socket socket) throws IOException {
         this(socket.getInputStream(), TimeplusDefines.SOCKET_RECV_BUFFER_BYTES);
     }
 
     SocketBuffedReader(InputStream in, int capacity) {
-        this.limit = 0;
-        this.position = 0;
         this.capacity = capacity;
 
         this.in = in;
         this.buf = new byte[capacity];
+        this.window = ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+        // upcast is necessary, see ByteArrayWriter#reset
+        ((Buffer) window).limit(0);
     }
 
     @Override
     public int readBinary() throws IOException {
-        if (!remaining() && !refill()) {
-            throw new EOFException("Attempt to read after eof.");
+        if (!window.hasRemaining()) {
+            refill();
         }
 
-        return buf[position++] & 0xFF;
+        return window.get() & 0xFF;
     }
 
     @Override
-    public int readBinary(byte[] bytes) throws IOException {
-        for (int i = 0; i < bytes.length; ) {
-            if (!remaining() && !refill()) {
-                throw new EOFException("Attempt to read after eof.");
+    public int readBinary(byte[] bytes, int offset, int length) throws IOException {
+        for (int i = 0; i < length; ) {
+            if (!window.hasRemaining()) {
+                refill();
             }
 
-            int pending = bytes.length - i;
-            int fillLength = Math.min(pending, limit - position);
-
-            if (fillLength > 0) {
-                System.arraycopy(buf, position, bytes, i, fillLength);
-
-                i += fillLength;
-                this.position += fillLength;
-            }
+            int fillLength = Math.min(length - i, window.remaining());
+            window.get(bytes, offset + i, fillLength);
+            i += fillLength;
         }
-        return bytes.length;
+        return length;
     }
 
-    private boolean remaining() {
-        return position < limit;
+    @Override
+    public ByteBuffer window(int n) throws IOException {
+        if (window.remaining() < n) {
+            fill(n);
+        }
+        return window;
     }
 
-    private boolean refill() throws IOException {
-        if (!remaining() && (limit = in.read(buf, 0, capacity)) <= 0) {
+    private void refill() throws IOException {
+        int limit = in.read(buf, 0, capacity);
+        if (limit <= 0) {
             throw new EOFException("Attempt to read after eof.");
         }
-        position = 0;
-        return true;
+        ((Buffer) window).position(0);
+        ((Buffer) window).limit(limit);
+    }
+
+    // moves the unread bytes to the front and reads until at least min bytes are available
+    private void fill(int min) throws IOException {
+        window.compact();
+        while (window.position() < min) {
+            int n = in.read(buf, window.position(), capacity - window.position());
+            if (n < 0) {
+                ((Buffer) window).flip();
+                throw new EOFException("Attempt to read after eof.");
+            }
+            ((Buffer) window).position(window.position() + n);
+        }
+        ((Buffer) window).flip();
     }
 }
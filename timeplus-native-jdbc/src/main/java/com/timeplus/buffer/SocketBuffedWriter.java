@@ -14,30 +14,87 @@
 
 package com.timeplus.buffer;
 
+import com.timeplus.settings.TimeplusDefines;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 
+/**
+ * Coalesces writes into a pooled buffer, the socket is only touched when the buffer is full
+ * or on {@link #flushToTarget(boolean) flushToTarget(true)}.
+ */
 public class SocketBuffedWriter implements BuffedWriter {
 
+    private final int capacity;
     private final OutputStream out;
 
+    private byte[] buf;
+    private int position;
+
     public SocketBuffedWriter(Socket socket) throws IOException {
-        this.out = socket.getOutputStream();
+        this(socket, TimeplusDefines.SOCKET_WRITE_BUFFER_BYTES);
+    }
+
+    public SocketBuffedWriter(Socket socket, int capacity) throws IOException {
+        this(socket.getOutputStream(), capacity);
+    }
+
+    SocketBuffedWriter(OutputStream out, int capacity) {
+        this.position = 0;
+        this.capacity = capacity;
+
+        this.out = out;
+        this.buf = ByteArrayPool.getInstance().getBuffer(capacity);
     }
 
     @Override
     public void writeBinary(byte byt) throws IOException {
-        out.write(byt);
+        if (position == capacity) {
+            drain();
+        }
+        buf[position++] = byt;
     }
 
     @Override
     public void writeBinary(byte[] bytes, int offset, int length) throws IOException {
-        out.write(bytes, offset, length);
+        if (length > capacity - position) {
+            drain();
+        }
+        // a chunk which can not be coalesced anyway goes to the socket directly instead of being copied twice
+        if (length >= capacity) {
+            out.write(bytes, offset, length);
+            return;
+        }
+        System.arraycopy(bytes, offset, buf, position, length);
+        position += length;
     }
 
     @Override
     public void flushToTarget(boolean force) throws IOException {
-        out.flush();
+        if (force) {
+            drain();
+            out.flush();
+        }
+    }
+
+    /**
+     * Return the buffer to {@link ByteArrayPool}, pending bytes are discarded.
+     * The writer must not be used after released, nor released while another thread is writing.
+     */
+    @Override
+    public void release() {
+        if (buf != null) {
+            ByteArrayPool.getInstance().recycleBuffer(buf);
+            buf = null;
+            position = 0;
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buf, 0, position);
+            position = 0;
+        }
     }
 }
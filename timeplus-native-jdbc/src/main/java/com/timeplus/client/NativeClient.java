@@ -14,10 +14,17 @@
 
 package com.timeplus.client;
 
+import com.timeplus.buffer.BuffedReader;
+import com.timeplus.buffer.BuffedWriter;
+import com.timeplus.buffer.ChannelBuffedReader;
+import com.timeplus.buffer.ChannelBuffedWriter;
+import com.timeplus.buffer.CompressedBuffedWriter;
+import com.timeplus.buffer.CompressionMethod;
 import com.timeplus.buffer.SocketBuffedReader;
 import com.timeplus.buffer.SocketBuffedWriter;
 import com.timeplus.client.ssl.SSLContextBuilder;
 import com.timeplus.data.Block;
+import com.timeplus.exception.TimeplusSQLException;
 import com.timeplus.misc.Validate;
 import com.timeplus.protocol.*;
 import com.timeplus.serde.BinaryDeserializer;
@@ -28,6 +35,7 @@ import com.timeplus.settings.SettingKey;
 import com.timeplus.log.Logger;
 import com.timeplus.log.LoggerFactory;
 import com.timeplus.stream.QueryResult;
+import com.timeplus.stream.ReadAheadResponseSupplier;
 import com.timeplus.stream.TimeplusQueryResult;
 
 import javax.net.ssl.*;
@@ -36,6 +44,7 @@ import java.io.Serializable;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
 import java.security.*;
 import java.security.cert.CertificateException;
 import java.sql.SQLException;
@@ -58,13 +67,21 @@ public class NativeClient {
         try {
             SocketAddress endpoint = new InetSocketAddress(host, port);
             Socket socket;
+            SocketChannel channel = null;
 
             boolean useSSL = config.ssl();
             if (useSSL) {
                 LOG.debug("Client works in SSL mode!");
+                if (config.nio()) {
+                    LOG.warn("NIO transport does not support SSL, fallback to socket transport");
+                }
                 SSLContext context = new SSLContextBuilder(config).getSSLContext();
                 SSLSocketFactory factory = context.getSocketFactory();
                 socket = (SSLSocket) factory.createSocket();
+            } else if (config.nio()) {
+                LOG.debug("Client works in NIO mode!");
+                channel = SocketChannel.open();
+                socket = channel.socket();
             } else {
                 socket = new Socket();
             }
@@ -76,7 +93,14 @@ public class NativeClient {
 
             if (useSSL) ((SSLSocket) socket).startHandshake();
 
-            return new NativeClient(socket);
+            if (channel != null) {
+                return new NativeClient(socket,
+                        new ChannelBuffedReader(channel, TimeplusDefines.SOCKET_RECV_BUFFER_BYTES),
+                        new ChannelBuffedWriter(channel, config.writeBufferSize()), config);
+            }
+            return new NativeClient(socket,
+                    new SocketBuffedReader(socket),
+                    new SocketBuffedWriter(socket, config.writeBufferSize()), config);
         } catch (IOException |
                  NoSuchAlgorithmException |
                  KeyStoreException |
@@ -90,22 +114,50 @@ public class NativeClient {
     private final Socket socket;
     private final SocketAddress address;
     private final boolean compression;
+    private final BuffedReader reader;
+    private final BuffedWriter writer;
     private final BinarySerializer serializer;
     private final BinaryDeserializer deserializer;
+    private final int readAheadBlocks;
+    private final long readAheadBytes;
+    // the responses of the last query when they are read ahead, the only reader of the socket until closed
+    private ReadAheadResponseSupplier readAhead;
 
-    private NativeClient(Socket socket) throws IOException {
+    private NativeClient(Socket socket, BuffedReader reader, BuffedWriter writer, TimeplusConfig config) {
         this.socket = socket;
         this.address = socket.getLocalSocketAddress();
-        this.compression = TimeplusDefines.COMPRESSION;
+        CompressionMethod method = TimeplusDefines.COMPRESSION
+                ? CompressionMethod.of(config.compressionMethod()) : CompressionMethod.NONE;
+        this.compression = method != CompressionMethod.NONE;
 
-        this.serializer = new BinarySerializer(new SocketBuffedWriter(socket), compression);
-        this.deserializer = new BinaryDeserializer(new SocketBuffedReader(socket), compression);
+        this.reader = reader;
+        this.writer = writer;
+        this.serializer = new BinarySerializer(writer, method, config.compressionMinRatio(),
+                config.compressionParallelism() > 0 ? CompressedBuffedWriter.sharedPool(config.compressionParallelism()) : null);
+        this.deserializer = new BinaryDeserializer(reader, method);
+        this.readAheadBlocks = config.readAheadBlocks();
+        this.readAheadBytes = config.readAheadBytes();
     }
 
     public SocketAddress address() {
         return address;
     }
 
+    /**
+     * Number of data frames sent compressed over this connection.
+     */
+    public long compressedFrames() {
+        return serializer.compressedFrames();
+    }
+
+    /**
+     * Number of data frames sent uncompressed over this connection because they did not reach
+     * `compression_min_ratio`.
+     */
+    public long skippedCompressionFrames() {
+        return serializer.skippedCompressionFrames();
+    }
+
     public boolean ping(Duration soTimeout, NativeContext.ServerContext info) {
         try {
             sendRequest(PingRequest.INSTANCE);
@@ -161,7 +213,13 @@ public class NativeClient {
     }
 
     public QueryResult receiveQuery(Duration soTimeout, NativeContext.ServerContext info) {
-        return new TimeplusQueryResult(() -> receiveResponse(soTimeout, info));
+        if (readAheadBlocks > 0) {
+            ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> receiveResponse(soTimeout, info),
+                    deserializer::decompressedBytes, readAheadBlocks, readAheadBytes, this::abort);
+            readAhead = supplier.start();
+            return new TimeplusQueryResult(supplier, supplier::close);
+        }
+        return new TimeplusQueryResult(() -> receiveResponse(soTimeout, info), () -> cancel(soTimeout, info));
     }
 
     public void silentDisconnect() {
@@ -183,6 +241,11 @@ public class NativeClient {
             socket.close();
         } catch (IOException ex) {
             throw new SQLException(ex.getMessage(), ex);
+        } finally {
+            // the socket is closed, a read ahead blocked on it fails right away
+            stopReadAhead();
+            reader.release();
+            writer.release();
         }
     }
 
@@ -191,7 +254,47 @@ public class NativeClient {
         sendRequest(new QueryRequest(id, info, stage, compression, query, settings));
     }
 
+    /**
+     * Cancel a query that is not read up to its end of stream and skip its remaining responses, so the connection
+     * stays usable. It is aborted when the query does not end within the timeout.
+     */
+    private void cancel(Duration soTimeout, NativeContext.ServerContext info) {
+        try {
+            sendRequest(CancelRequest.INSTANCE);
+            while (!(receiveResponse(soTimeout, info) instanceof EOFStreamResponse)) {
+                LOG.trace("skip response of cancelled query");
+            }
+        } catch (TimeplusSQLException ex) {
+            // the server ends a cancelled query either way
+            LOG.debug("cancelled query ended by exception", ex);
+        } catch (SQLException ex) {
+            LOG.debug("cancel query failed", ex);
+            abort();
+        }
+    }
+
+    /**
+     * Close the socket under a request that cannot be completed, which also fails a read blocked on it. The
+     * connection fails its next ping and is replaced.
+     */
+    public void abort() {
+        try {
+            LOG.debug("abort unfinished request, close socket");
+            socket.close();
+        } catch (IOException ex) {
+            LOG.debug("close socket throw exception.", ex);
+        }
+    }
+
+    private void stopReadAhead() {
+        if (readAhead != null) {
+            readAhead.close();
+            readAhead = null;
+        }
+    }
+
     private void sendRequest(Request request) throws SQLException {
+        stopReadAhead();
         try {
             LOG.trace("send request: {}", request.type());
             request.writeTo(serializer);
@@ -20,6 +20,7 @@ import com.timeplus.misc.Validate;
 import com.timeplus.serde.BinaryDeserializer;
 import com.timeplus.serde.BinarySerializer;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -38,6 +39,9 @@ public class Block {
         int rowCnt = (int) deserializer.readVarInt();
 
         IColumn[] columns = new IColumn[columnCnt];
+        // headers and sample blocks are empty, there is nothing to save for them
+        EncodedColumn[] encoded = rowCnt > 0 && serverContext.getConfigure().lazyDecode()
+                ? new EncodedColumn[columnCnt] : null;
 
         for (int i = 0; i < columnCnt; i++) {
             String name = deserializer.readUTF8StringBinary();
@@ -45,15 +49,20 @@ public class Block {
 
             IDataType dataType = DataTypeFactory.get(type, serverContext);
             dataType.deserializeBinaryPrefix(rowCnt, deserializer);
-            Object[] arr = dataType.deserializeBinaryBulk(rowCnt, deserializer);
+            if (encoded != null)
+                encoded[i] = EncodedColumn.readFrom(name, dataType, rowCnt, deserializer);
+            if (encoded == null || encoded[i] == null)
+                columns[i] = ColumnFactory.readColumn(name, dataType, rowCnt, deserializer);
             dataType.deserializeBinarySuffix(rowCnt, deserializer);
-            columns[i] = ColumnFactory.createColumn(name, dataType, arr);
         }
 
-        return new Block(rowCnt, columns, info);
+        return new Block(rowCnt, columns, encoded, info);
     }
 
     private final IColumn[] columns;
+    // columns of a received block not decoded yet, see getColumn
+    @Nullable
+    private final EncodedColumn[] encoded;
     private final BlockInfo settings;
     // position start with 1
     private final Map<String, Integer> nameAndPositions;
@@ -72,19 +81,40 @@ public class Block {
     }
 
     public Block(int rowCnt, IColumn[] columns, BlockInfo settings) {
+        this(rowCnt, columns, null, settings);
+    }
+
+    private Block(int rowCnt, IColumn[] columns, @Nullable EncodedColumn[] encoded, BlockInfo settings) {
         this.rowCnt = rowCnt;
         this.columns = columns;
+        this.encoded = encoded;
         this.settings = settings;
 
         this.rowData = new Object[columns.length];
         this.nameAndPositions = new HashMap<>();
         this.placeholderIndexes = new int[columns.length];
         for (int i = 0; i < columns.length; i++) {
-            nameAndPositions.put(columns[i].name(), i + 1);
+            nameAndPositions.put(columns[i] != null ? columns[i].name() : encoded[i].name(), i + 1);
             placeholderIndexes[i] = i;
         }
     }
 
+    /**
+     * An empty block with the same columns, constant values and placeholders, to be filled while this one
+     * is still being sent. Its write buffers are initialized.
+     */
+    public Block emptyCopy() {
+        IColumn[] copied = new IColumn[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            copied[i] = ColumnFactory.createColumn(columns[i].name(), columns[i].type(), new Object[0]);
+        }
+        Block block = new Block(0, copied, settings);
+        System.arraycopy(rowData, 0, block.rowData, 0, rowData.length);
+        System.arraycopy(placeholderIndexes, 0, block.placeholderIndexes, 0, placeholderIndexes.length);
+        block.initWriteBuffer();
+        return block;
+    }
+
     public int rowCnt() {
         return rowCnt;
     }
@@ -139,7 +169,21 @@ public class Block {
         Validate.isTrue(columnIdx < columns.length,
                 "Position " + columnIdx +
                         " is out of bound in Block.getByPosition, max position = " + (columns.length - 1));
-        return columns[columnIdx];
+        IColumn column = columns[columnIdx];
+        if (column == null) {
+            column = columns[columnIdx] = decode(columnIdx);
+        }
+        return column;
+    }
+
+    private IColumn decode(int columnIdx) throws SQLException {
+        try {
+            IColumn column = encoded[columnIdx].decode();
+            encoded[columnIdx] = null;
+            return column;
+        } catch (IOException e) {
+            throw new SQLException("Exception decoding column: " + encoded[columnIdx].name(), e);
+        }
     }
 
     // position start with 1
@@ -172,6 +216,8 @@ public class Block {
     public void cleanup() {
         ColumnWriterBufferFactory bufferFactory = ColumnWriterBufferFactory.getInstance();
         for (IColumn column : columns) {
+            if (column == null)
+                continue;
             ColumnWriterBuffer writeBuffer = column.getColumnWriterBuffer();
             // recycle used buffer
             if (writeBuffer != null) {
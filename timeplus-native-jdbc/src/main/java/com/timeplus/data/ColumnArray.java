@@ -16,38 +16,73 @@ package com.timeplus.data;
 
 import com.timeplus.jdbc.TimeplusArray;
 import com.timeplus.data.type.complex.DataTypeArray;
+import com.timeplus.serde.BinaryDeserializer;
 import com.timeplus.serde.BinarySerializer;
+
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 public class ColumnArray extends AbstractColumn {
 
-    private final List<Long> offsets;
+    // kept unboxed, so they are written with one bulk call
+    private long[] offsets;
+    private int offsetCnt;
     // data represents nested column in ColumnArray
     private final IColumn nestedColumn;
 
+    // read from a block: the elements of all rows in one column, row i spans [readOffsets[i], readOffsets[i + 1])
+    @Nullable
+    private IColumn elements;
+    private int[] readOffsets;
+
     public ColumnArray(String name, DataTypeArray type, Object[] values) {
         super(name, type, values);
-        offsets = new ArrayList<>();
+        offsets = new long[16];
         nestedColumn = ColumnFactory.createColumn(null, type.getElemDataType(), null);
     }
 
+    /**
+     * Replace the values with {@code rows} arrays read from the stream. Their elements stay in one column, e.g. an
+     * unboxed column for fixed-width numbers, which the arrays returned by {@link #value(int)} are views of.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        long[] ends = new long[rows];
+        deserializer.readLongs(ends, rows);
+        readOffsets = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            readOffsets[i + 1] = (int) ends[i];
+        }
+        elements = ColumnFactory.readColumn(null, ((DataTypeArray) type).getElemDataType(), readOffsets[rows],
+                deserializer);
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (elements == null) {
+            return super.value(idx);
+        }
+        return new TimeplusArray(((DataTypeArray) type).getElemDataType(), elements, readOffsets[idx],
+                readOffsets[idx + 1] - readOffsets[idx]);
+    }
+
     @Override
     public void write(Object object) throws IOException, SQLException {
         Object[] arr = ((TimeplusArray) object).getArray();
 
-        offsets.add(offsets.isEmpty() ? arr.length : offsets.get((offsets.size() - 1)) + arr.length);
+        if (offsetCnt == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsetCnt * 2);
+        }
+        offsets[offsetCnt] = offsetCnt == 0 ? arr.length : offsets[offsetCnt - 1] + arr.length;
+        offsetCnt++;
         for (Object field : arr) {
             nestedColumn.write(field);
         }
     }
 
     public void flushOffsets(BinarySerializer serializer) throws IOException {
-        for (long offsetList : offsets) {
-            serializer.writeLong(offsetList);
-        }
+        serializer.writeLongs(offsets, 0, offsetCnt);
     }
 
     @Override
@@ -58,7 +93,7 @@ public class ColumnArray extends AbstractColumn {
 
     @Override
     public void clear() {
-        offsets.clear();
+        offsetCnt = 0;
         nestedColumn.clear();
     }
 
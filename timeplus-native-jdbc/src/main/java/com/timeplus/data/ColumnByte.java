@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Column of Int8/UInt8 values kept as byte[], both for rows appended for insert, written with one bulk call,
+ * and for rows read from a block. Unsigned values are widened when they are boxed.
+ */
+public class ColumnByte extends AbstractColumn implements IPrimitiveColumn {
+
+    private final boolean unsigned;
+    private byte[] data = new byte[16];
+    private int size;
+
+    public ColumnByte(String name, IDataType<?, ?> type, Object[] values) {
+        super(name, type, null);
+        this.unsigned = !type.isSigned();
+        if (values != null && values.length > 0) {
+            data = new byte[values.length];
+            for (int i = 0; i < values.length; i++) {
+                data[i] = ((Number) values[i]).byteValue();
+            }
+            size = values.length;
+        }
+    }
+
+    @Override
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        data = new byte[rows];
+        deserializer.readBytes(data, 0, rows);
+        size = rows;
+    }
+
+    @Override
+    public Object value(int idx) {
+        return unsigned ? (Object) (short) (data[idx] & 0xff) : (Object) data[idx];
+    }
+
+    @Override
+    public byte byteValue(int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public short shortValue(int idx) {
+        return (short) longValue(idx);
+    }
+
+    @Override
+    public int intValue(int idx) {
+        return (int) longValue(idx);
+    }
+
+    @Override
+    public long longValue(int idx) {
+        return unsigned ? data[idx] & 0xff : data[idx];
+    }
+
+    @Override
+    public float floatValue(int idx) {
+        return longValue(idx);
+    }
+
+    @Override
+    public double doubleValue(int idx) {
+        return longValue(idx);
+    }
+
+    @Override
+    public void write(Object object) throws IOException, SQLException {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, Math.max(16, size * 2));
+        }
+        data[size++] = ((Number) object).byteValue();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        size = 0;
+    }
+
+    @Override
+    public void SerializeBulk(BinarySerializer serializer, Boolean now) throws IOException, SQLException {
+        // nothing goes through the column buffer, so it is written right away whether nested or not
+        serializer.writeBytes(data, 0, size);
+    }
+}
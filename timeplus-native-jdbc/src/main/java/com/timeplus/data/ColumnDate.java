@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.data.type.DataTypeDate;
+import com.timeplus.serde.BinaryDeserializer;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Date/Date32 column read from a block, kept as days since the epoch. {@link #value(int)} still returns a LocalDate,
+ * created when it is asked for. Rows appended for insert are encoded into the column buffer like {@link Column}.
+ */
+public class ColumnDate extends Column {
+
+    private int[] days = new int[0];
+
+    public ColumnDate(String name, IDataType<?, ?> type) {
+        super(name, type, null);
+    }
+
+    /**
+     * Replace the values with {@code rows} values decoded in bulk.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        days = new int[rows];
+        if (!(type instanceof DataTypeDate)) {
+            deserializer.readInts(days, rows);
+            return;
+        }
+        // Date is an unsigned 16 bit day number
+        short[] values = new short[rows];
+        deserializer.readShorts(values, rows);
+        for (int i = 0; i < rows; i++) {
+            days[i] = values[i] & 0xFFFF;
+        }
+    }
+
+    public int epochDay(int idx) {
+        return days[idx];
+    }
+
+    public Date date(int idx) {
+        return Date.valueOf(value(idx));
+    }
+
+    @Override
+    public LocalDate value(int idx) {
+        return LocalDate.ofEpochDay(days[idx]);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        days = new int[0];
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.data.type.complex.DataTypeDateTime;
+import com.timeplus.data.type.complex.DataTypeDateTime64;
+import com.timeplus.misc.DateTimeUtil;
+import com.timeplus.misc.ZoneOffsetCache;
+import com.timeplus.serde.BinaryDeserializer;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * DateTime/DateTime64 column read from a block, kept as the ticks sent by the server: seconds, or units of
+ * 10^-scale seconds since the epoch. {@link #value(int)} still returns a ZonedDateTime, the other views are created
+ * from the ticks only when asked for. Rows appended for insert are encoded into the column buffer like {@link Column}.
+ */
+public class ColumnDateTime extends Column {
+
+    private final ZoneId tz;
+    private final long ticksPerSecond;
+    private final int nanosPerTick;
+    private ZoneOffsetCache offsets;
+    private long[] ticks = new long[0];
+
+    public ColumnDateTime(String name, DataTypeDateTime type) {
+        this(name, type, type.timeZone(), 0);
+    }
+
+    public ColumnDateTime(String name, DataTypeDateTime64 type) {
+        this(name, type, type.timeZone(), type.getScale());
+    }
+
+    private ColumnDateTime(String name, IDataType<?, ?> type, ZoneId tz, int scale) {
+        super(name, type, null);
+        this.tz = tz;
+        this.ticksPerSecond = DataTypeDateTime64.POW_10[scale];
+        this.nanosPerTick = DataTypeDateTime64.POW_10[DataTypeDateTime64.MAX_SCALA - scale];
+    }
+
+    /**
+     * Replace the values with {@code rows} values decoded in bulk.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        ticks = new long[rows];
+        if (type instanceof DataTypeDateTime64) {
+            deserializer.readLongs(ticks, rows);
+            return;
+        }
+        int[] seconds = new int[rows];
+        deserializer.readInts(seconds, rows);
+        // DateTime is a UInt32 on the wire, values after 2038-01-19 have the sign bit set
+        for (int i = 0; i < rows; i++) {
+            ticks[i] = seconds[i] & 0xFFFFFFFFL;
+        }
+    }
+
+    public long epochSecond(int idx) {
+        return Math.floorDiv(ticks[idx], ticksPerSecond);
+    }
+
+    public int nanos(int idx) {
+        return (int) Math.floorMod(ticks[idx], ticksPerSecond) * nanosPerTick;
+    }
+
+    public Instant instant(int idx) {
+        return Instant.ofEpochSecond(epochSecond(idx), nanos(idx));
+    }
+
+    /**
+     * Same instant as {@code DateTimeUtil.toTimestamp(value(idx), null)}, without creating the ZonedDateTime.
+     */
+    public Timestamp timestamp(int idx) {
+        Timestamp timestamp = new Timestamp(epochSecond(idx) * 1000);
+        timestamp.setNanos(nanos(idx));
+        return timestamp;
+    }
+
+    /**
+     * Wall time in the zone of the column.
+     */
+    public LocalDateTime localDateTime(int idx) {
+        if (offsets == null) {
+            offsets = new ZoneOffsetCache(tz);
+        }
+        long epochSecond = epochSecond(idx);
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos(idx), offsets.offset(epochSecond));
+    }
+
+    @Override
+    public ZonedDateTime value(int idx) {
+        return DateTimeUtil.toZonedDateTime(epochSecond(idx), nanos(idx), tz);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        ticks = new long[0];
+    }
+}
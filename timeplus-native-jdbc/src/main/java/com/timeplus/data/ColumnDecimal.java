@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.data.type.complex.DataTypeDecimal;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Column of Decimal32/Decimal64 values kept as their unscaled long, both for rows appended for insert, written
+ * with one bulk call, and for rows read from a block. A BigDecimal is only created when the value is asked for.
+ */
+public class ColumnDecimal extends AbstractColumn implements IPrimitiveColumn {
+
+    private static final long[] POW_10 = new long[19];
+    // 10^i is exact as a double up to 10^22, the quotient is then rounded once like BigDecimal#doubleValue
+    private static final double[] DOUBLE_POW_10 = new double[19];
+    private static final long MAX_EXACT_DOUBLE = 1L << 52;
+
+    static {
+        POW_10[0] = 1;
+        DOUBLE_POW_10[0] = 1;
+        for (int i = 1; i < POW_10.length; i++) {
+            POW_10[i] = POW_10[i - 1] * 10;
+            DOUBLE_POW_10[i] = POW_10[i];
+        }
+    }
+
+    private final int scale;
+    private final boolean decimal32;
+    private long[] data = new long[16];
+    private int size;
+
+    public ColumnDecimal(String name, DataTypeDecimal type, Object[] values) {
+        super(name, type, null);
+        this.scale = type.getScale();
+        this.decimal32 = type.byteSize() == Integer.BYTES;
+        if (values != null && values.length > 0) {
+            data = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                data[i] = unscaled(values[i]);
+            }
+            size = values.length;
+        }
+    }
+
+    @Override
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        data = new long[rows];
+        size = rows;
+        if (!decimal32) {
+            deserializer.readLongs(data, rows);
+            return;
+        }
+        int[] values = new int[rows];
+        deserializer.readInts(values, rows);
+        for (int i = 0; i < rows; i++) {
+            data[i] = values[i];
+        }
+    }
+
+    public long unscaledValue(int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public Object value(int idx) {
+        return BigDecimal.valueOf(data[idx], scale);
+    }
+
+    @Override
+    public byte byteValue(int idx) {
+        return (byte) longValue(idx);
+    }
+
+    @Override
+    public short shortValue(int idx) {
+        return (short) longValue(idx);
+    }
+
+    @Override
+    public int intValue(int idx) {
+        return (int) longValue(idx);
+    }
+
+    @Override
+    public long longValue(int idx) {
+        // truncated toward zero like BigDecimal#longValue
+        return data[idx] / POW_10[scale];
+    }
+
+    @Override
+    public float floatValue(int idx) {
+        return ((BigDecimal) value(idx)).floatValue();
+    }
+
+    @Override
+    public double doubleValue(int idx) {
+        long unscaled = data[idx];
+        if (Math.abs(unscaled) < MAX_EXACT_DOUBLE) {
+            return unscaled / DOUBLE_POW_10[scale];
+        }
+        return ((BigDecimal) value(idx)).doubleValue();
+    }
+
+    @Override
+    public void write(Object object) throws IOException, SQLException {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, Math.max(16, size * 2));
+        }
+        data[size++] = unscaled(object);
+    }
+
+    private long unscaled(Object value) {
+        BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        return ((DataTypeDecimal) type).unscaledValue(decimal).longValue();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        size = 0;
+    }
+
+    @Override
+    public void SerializeBulk(BinarySerializer serializer, Boolean now) throws IOException, SQLException {
+        // nothing goes through the column buffer, so it is written right away whether nested or not
+        if (!decimal32) {
+            serializer.writeLongs(data, 0, size);
+            return;
+        }
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (int) data[i];
+        }
+        serializer.writeInts(values, 0, size);
+    }
+}
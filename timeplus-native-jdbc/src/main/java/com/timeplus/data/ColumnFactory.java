@@ -14,14 +14,105 @@
 
 package com.timeplus.data;
 
+import com.timeplus.data.type.DataTypeDate;
+import com.timeplus.data.type.DataTypeDate32;
+import com.timeplus.data.type.DataTypeFloat32;
+import com.timeplus.data.type.DataTypeFloat64;
+import com.timeplus.data.type.DataTypeIPv4;
+import com.timeplus.data.type.DataTypeIPv6;
+import com.timeplus.data.type.DataTypeInt128;
+import com.timeplus.data.type.DataTypeInt16;
+import com.timeplus.data.type.DataTypeInt256;
+import com.timeplus.data.type.DataTypeInt32;
+import com.timeplus.data.type.DataTypeInt64;
+import com.timeplus.data.type.DataTypeInt8;
+import com.timeplus.data.type.DataTypeUInt128;
+import com.timeplus.data.type.DataTypeUInt16;
+import com.timeplus.data.type.DataTypeUInt256;
+import com.timeplus.data.type.DataTypeUInt32;
+import com.timeplus.data.type.DataTypeUInt64;
+import com.timeplus.data.type.DataTypeUInt8;
+import com.timeplus.data.type.DataTypeUUID;
 import com.timeplus.data.type.complex.DataTypeArray;
+import com.timeplus.data.type.complex.DataTypeDateTime;
+import com.timeplus.data.type.complex.DataTypeDateTime64;
+import com.timeplus.data.type.complex.DataTypeDecimal;
+import com.timeplus.data.type.complex.DataTypeFixedString;
 import com.timeplus.data.type.complex.DataTypeLowCardinality;
 import com.timeplus.data.type.complex.DataTypeMap;
 import com.timeplus.data.type.complex.DataTypeNullable;
+import com.timeplus.data.type.complex.DataTypeString;
 import com.timeplus.data.type.complex.DataTypeTuple;
+import com.timeplus.serde.BinaryDeserializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.sql.SQLException;
 
 public class ColumnFactory {
 
+    /**
+     * Decode a column of a received block, fixed-width numbers are read into primitive arrays without boxing
+     * temporal values as epoch numbers, strings into one byte arena, uuid, ipv6 and fixed strings into one slab,
+     * arrays and maps keep their elements in flat columns, nullable columns keep their null map and low
+     * cardinality columns keep their dictionary.
+     */
+    public static IColumn readColumn(String name, IDataType<?, ?> type, int rows,
+                                     BinaryDeserializer deserializer) throws IOException, SQLException {
+        IPrimitiveColumn primitive = createPrimitiveColumn(name, type, null);
+        if (primitive != null) {
+            primitive.read(rows, deserializer);
+            return primitive;
+        }
+        if (type instanceof DataTypeDateTime || type instanceof DataTypeDateTime64) {
+            ColumnDateTime column = type instanceof DataTypeDateTime
+                    ? new ColumnDateTime(name, (DataTypeDateTime) type)
+                    : new ColumnDateTime(name, (DataTypeDateTime64) type);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeDate || type instanceof DataTypeDate32) {
+            ColumnDate column = new ColumnDate(name, type);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeArray) {
+            ColumnArray column = new ColumnArray(name, (DataTypeArray) type, null);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeNullable) {
+            ColumnNullable column = new ColumnNullable(name, (DataTypeNullable) type, null);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeMap) {
+            ColumnMap column = new ColumnMap(name, (DataTypeMap) type, null);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeLowCardinality) {
+            ColumnLowCardinality column = new ColumnLowCardinality(name, (DataTypeLowCardinality) type, null);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeUUID || type instanceof DataTypeIPv6 || type instanceof DataTypeFixedString) {
+            ColumnFixedBinary column = type instanceof DataTypeUUID
+                    ? new ColumnFixedBinary(name, (DataTypeUUID) type)
+                    : type instanceof DataTypeIPv6
+                    ? new ColumnFixedBinary(name, (DataTypeIPv6) type)
+                    : new ColumnFixedBinary(name, (DataTypeFixedString) type);
+            column.read(rows, deserializer);
+            return column;
+        }
+        if (type instanceof DataTypeString) {
+            ColumnString column = new ColumnString(name, (DataTypeString) type);
+            column.read(rows, deserializer);
+            return column;
+        }
+        return createColumn(name, type, type.deserializeBinaryBulk(rows, deserializer));
+    }
+
     public static IColumn createColumn(String name, IDataType<?, ?> type, Object[] values) {
         if (type instanceof DataTypeArray)
             return new ColumnArray(name, (DataTypeArray) type, values);
@@ -38,6 +129,55 @@ public class ColumnFactory {
         if (type instanceof DataTypeLowCardinality)
            return new ColumnLowCardinality(name, (DataTypeLowCardinality) type, values);
 
+        // values given by callers, e.g. the metadata result sets, may hold nulls or other objects
+        if (allNumbers(values)) {
+            IPrimitiveColumn primitive = createPrimitiveColumn(name, type, values);
+            if (primitive != null)
+                return primitive;
+        }
+
         return new Column(name, type, values);
     }
+
+    private static boolean allNumbers(Object[] values) {
+        if (values != null) {
+            for (Object value : values) {
+                if (!(value instanceof Number))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static IPrimitiveColumn createPrimitiveColumn(String name, IDataType<?, ?> type, Object[] values) {
+        if (type instanceof DataTypeInt64 || type instanceof DataTypeUInt64)
+            return new ColumnLong(name, type, values);
+
+        if (type instanceof DataTypeInt32 || type instanceof DataTypeUInt32 || type instanceof DataTypeIPv4)
+            return new ColumnInt(name, type, values);
+
+        if (type instanceof DataTypeInt16 || type instanceof DataTypeUInt16)
+            return new ColumnShort(name, type, values);
+
+        if (type instanceof DataTypeInt8 || type instanceof DataTypeUInt8)
+            return new ColumnByte(name, type, values);
+
+        if (type instanceof DataTypeFloat64)
+            return new ColumnDouble(name, type, values);
+
+        if (type instanceof DataTypeFloat32)
+            return new ColumnFloat(name, type, values);
+
+        if (type instanceof DataTypeInt128 || type instanceof DataTypeInt256)
+            return new ColumnWideInt(name, type, true, values);
+
+        if (type instanceof DataTypeUInt128 || type instanceof DataTypeUInt256)
+            return new ColumnWideInt(name, type, false, values);
+
+        if (type instanceof DataTypeDecimal && type.byteSize() <= Long.BYTES)
+            return new ColumnDecimal(name, (DataTypeDecimal) type, values);
+
+        return null;
+    }
 }
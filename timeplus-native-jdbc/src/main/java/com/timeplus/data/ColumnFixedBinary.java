@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.data.type.DataTypeIPv6;
+import com.timeplus.data.type.DataTypeUUID;
+import com.timeplus.data.type.complex.DataTypeFixedString;
+import com.timeplus.misc.BytesHelper;
+import com.timeplus.serde.BinaryDeserializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * UUID, IPv6 or FixedString column read from a block, the values of all rows are kept as received in one slab of
+ * {@link #width()} bytes per row. The UUID, BigInteger or String is only created when the value is asked for.
+ * Rows appended for insert are encoded into the column buffer like {@link Column}.
+ */
+public class ColumnFixedBinary extends Column implements BytesHelper {
+
+    private final int width;
+    private final Charset charset;
+    private byte[] slab = new byte[0];
+
+    public ColumnFixedBinary(String name, DataTypeUUID type) {
+        this(name, type, null);
+    }
+
+    public ColumnFixedBinary(String name, DataTypeIPv6 type) {
+        this(name, type, null);
+    }
+
+    public ColumnFixedBinary(String name, DataTypeFixedString type) {
+        this(name, type, type.charset());
+    }
+
+    private ColumnFixedBinary(String name, IDataType<?, ?> type, Charset charset) {
+        super(name, type, null);
+        this.width = type.byteSize();
+        this.charset = charset;
+    }
+
+    /**
+     * Replace the values with {@code rows} values read from the stream with one bulk read.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        slab = new byte[rows * width];
+        deserializer.readBytes(slab, 0, slab.length);
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (type instanceof DataTypeUUID) {
+            return new UUID(mostSignificantBits(idx), leastSignificantBits(idx));
+        }
+        if (type instanceof DataTypeIPv6) {
+            return new BigInteger(1, bytes(idx));
+        }
+        return new String(slab, idx * width, width, charset);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return false;
+    }
+
+    /**
+     * Charset the values of a fixed_string column are decoded with, null for uuid and ipv6.
+     */
+    @Nullable
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * Length in bytes of every value.
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * The bytes of the value as received, i.e. two little endian longs for UUID.
+     */
+    public byte[] bytes(int idx) {
+        return Arrays.copyOfRange(slab, idx * width, (idx + 1) * width);
+    }
+
+    /**
+     * Copy the bytes of the value as received into {@code dst}, which must have {@link #width()} bytes remaining.
+     */
+    public void copyTo(int idx, ByteBuffer dst) {
+        dst.put(slab, idx * width, width);
+    }
+
+    /**
+     * The most significant bits of a UUID value.
+     */
+    public long mostSignificantBits(int idx) {
+        return getLongLE(slab, idx * width);
+    }
+
+    /**
+     * The least significant bits of a UUID value.
+     */
+    public long leastSignificantBits(int idx) {
+        return getLongLE(slab, idx * width + Long.BYTES);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        slab = new byte[0];
+    }
+}
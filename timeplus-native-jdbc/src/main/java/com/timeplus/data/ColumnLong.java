@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Column of Int64/UInt64 values kept as long[], both for rows appended for insert, written with one bulk call,
+ * and for rows read from a block. UInt64 values are boxed as BigInteger.
+ */
+public class ColumnLong extends AbstractColumn implements IPrimitiveColumn {
+
+    private final boolean unsigned;
+    private long[] data = new long[16];
+    private int size;
+
+    public ColumnLong(String name, IDataType<?, ?> type, Object[] values) {
+        super(name, type, null);
+        this.unsigned = !type.isSigned();
+        if (values != null && values.length > 0) {
+            data = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                data[i] = ((Number) values[i]).longValue();
+            }
+            size = values.length;
+        }
+    }
+
+    @Override
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        data = new long[rows];
+        deserializer.readLongs(data, rows);
+        size = rows;
+    }
+
+    @Override
+    public Object value(int idx) {
+        long v = data[idx];
+        if (!unsigned) {
+            return v;
+        }
+        return v >= 0 ? BigInteger.valueOf(v) : BigInteger.valueOf(v & Long.MAX_VALUE).setBit(63);
+    }
+
+    @Override
+    public byte byteValue(int idx) {
+        return (byte) data[idx];
+    }
+
+    @Override
+    public short shortValue(int idx) {
+        return (short) data[idx];
+    }
+
+    @Override
+    public int intValue(int idx) {
+        return (int) data[idx];
+    }
+
+    @Override
+    public long longValue(int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public float floatValue(int idx) {
+        // UInt64 above Long.MAX_VALUE rounds like BigInteger#floatValue
+        return unsigned && data[idx] < 0 ? ((BigInteger) value(idx)).floatValue() : data[idx];
+    }
+
+    @Override
+    public double doubleValue(int idx) {
+        return unsigned && data[idx] < 0 ? ((BigInteger) value(idx)).doubleValue() : data[idx];
+    }
+
+    @Override
+    public void write(Object object) throws IOException, SQLException {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, Math.max(16, size * 2));
+        }
+        data[size++] = ((Number) object).longValue();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        size = 0;
+    }
+
+    @Override
+    public void SerializeBulk(BinarySerializer serializer, Boolean now) throws IOException, SQLException {
+        // nothing goes through the column buffer, so it is written right away whether nested or not
+        serializer.writeLongs(data, 0, size);
+    }
+}
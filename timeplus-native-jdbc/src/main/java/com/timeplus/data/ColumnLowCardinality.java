@@ -16,23 +16,36 @@ package com.timeplus.data;
 
 import com.timeplus.data.type.complex.DataTypeLowCardinality;
 import com.timeplus.data.type.complex.DataTypeNullable;
+import com.timeplus.serde.BinaryDeserializer;
 import com.timeplus.serde.BinarySerializer;
+
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ColumnLowCardinality extends AbstractColumn {
 
-    private final List<Long> indexes;
+    // kept unboxed, so they are written with one bulk call
+    private long[] indexes;
+    private int indexCnt;
     private final List<Object> dict;
     private final Long version = 1L;
     private boolean nested_is_nullable;
     private IDataType nested_type;
 
+    // read from a block: the dictionary and the indexes of the rows into it, in the narrowest width sent
+    @Nullable
+    private IColumn dictionary;
+    private byte[] byteIndexes;
+    private short[] shortIndexes;
+    private int[] intIndexes;
+
     public ColumnLowCardinality(String name, DataTypeLowCardinality type, Object[] values) {
         super(name, type, values);
-        indexes = new ArrayList<>();
+        indexes = new long[16];
         dict = new ArrayList<>();
         nested_is_nullable = type.getNestedTypes().nullable();
         /// If a nested type is nullable, always add two hard dictionary keys in front: [0]: null, [1]: default value
@@ -46,11 +59,82 @@ public class ColumnLowCardinality extends AbstractColumn {
         }
     }
 
+    /**
+     * Replace the values with {@code rows} values read from the stream, the dictionary is kept as it was sent.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        byteIndexes = null;
+        shortIndexes = null;
+        intIndexes = null;
+        if (rows == 0) {
+            dictionary = ColumnFactory.createColumn(name, nested_type, new Object[0]);
+            intIndexes = new int[0];
+            return;
+        }
+
+        long indexType = deserializer.readLong() & 0xFF;
+        int keyCnt = (int) deserializer.readLong();
+        dictionary = ColumnFactory.readColumn(name, nested_type, keyCnt, deserializer);
+
+        long rowCnt = deserializer.readLong();
+        if (rowCnt != rows) {
+            throw new SQLException("read unexpected rows in low_cardinality, expected:" + rows + ", actual:" + rowCnt);
+        }
+
+        if (indexType == IndexType.UInt8.getValue()) {
+            byteIndexes = new byte[rows];
+            deserializer.readBytes(byteIndexes, 0, rows);
+        } else if (indexType == IndexType.UInt16.getValue()) {
+            shortIndexes = new short[rows];
+            deserializer.readShorts(shortIndexes, rows);
+        } else if (indexType == IndexType.UInt32.getValue()) {
+            intIndexes = new int[rows];
+            deserializer.readInts(intIndexes, rows);
+        } else {
+            // a dictionary is an array, its indexes fit into an int whatever width they are sent with
+            long[] indexes = new long[rows];
+            deserializer.readLongs(indexes, rows);
+            intIndexes = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                intIndexes[i] = (int) indexes[i];
+            }
+        }
+    }
+
+    /**
+     * Index of the value into {@link #dictionary()}, rows of a block with equal values share the index.
+     * With a nullable nested type, index 0 stands for null.
+     */
+    public int dictionaryIndex(int idx) {
+        if (byteIndexes != null)
+            return byteIndexes[idx] & 0xFF;
+        if (shortIndexes != null)
+            return shortIndexes[idx] & 0xFFFF;
+        return intIndexes[idx];
+    }
+
+    /**
+     * The distinct values of a column read from a block, null for a column filled for insert.
+     */
+    @Nullable
+    public IColumn dictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (dictionary == null) {
+            return super.value(idx);
+        }
+        int index = dictionaryIndex(idx);
+        return nested_is_nullable && index == 0 ? null : dictionary.value(index);
+    }
+
     @Override
     public void write(Object object) throws IOException, SQLException {
         if (object == null) {
             if (nested_is_nullable) {
-                indexes.add(0l);
+                addIndex(0);
             }
             else {
                 throw new SQLException("null object appeared without nullable field");
@@ -59,15 +143,22 @@ public class ColumnLowCardinality extends AbstractColumn {
         else {
             long value = dict.lastIndexOf(object);
             if (value != -1) { 
-                indexes.add(value);
+                addIndex(value);
             }
             else {
-                indexes.add((long) dict.size());
+                addIndex(dict.size());
                 dict.add(object);
             }
         }
     }
 
+    private void addIndex(long index) {
+        if (indexCnt == indexes.length) {
+            indexes = Arrays.copyOf(indexes, indexCnt * 2);
+        }
+        indexes[indexCnt++] = index;
+    }
+
     @Override
     public void setColumnWriterBuffer(ColumnWriterBuffer buffer) {
         super.setColumnWriterBuffer(buffer);
@@ -90,10 +181,8 @@ public class ColumnLowCardinality extends AbstractColumn {
 
         nested_type.serializeBinaryBulk(dict.toArray(), serializer);
 
-        serializer.writeLong(indexes.size()); //  give index type size
-        for (int i = 0; i < indexes.size(); i++) {
-            serializer.writeLong(indexes.get(i));
-        }
+        serializer.writeLong(indexCnt); //  give index type size
+        serializer.writeLongs(indexes, 0, indexCnt);
     
     }
 
@@ -15,24 +15,34 @@ package com.timeplus.data;
 
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 
 import com.timeplus.data.type.complex.DataTypeMap;
+import com.timeplus.serde.BinaryDeserializer;
 import com.timeplus.serde.BinarySerializer;
 
+import javax.annotation.Nullable;
+
 /**
  * @author liuxinghua02
  */
 public class ColumnMap extends AbstractColumn {
     private final IColumn[] columnDataArray;
 
-    private final List<Long> offsets;
+    // kept unboxed, so they are written with one bulk call
+    private long[] offsets;
+    private int offsetCnt;
+
+    // read from a block: the keys and values of all rows, row i spans [readOffsets[i], readOffsets[i + 1])
+    @Nullable
+    private IColumn keys;
+    private IColumn values;
+    private int[] readOffsets;
 
     public ColumnMap(String name, DataTypeMap type, Object[] values) {
         super(name, type, values);
-        offsets = new ArrayList<>();
+        offsets = new long[16];
         IDataType<?, ?>[] types = type.getNestedTypes();
         columnDataArray = new IColumn[types.length];
         for (int i = 0; i < types.length; i++) {
@@ -40,11 +50,39 @@ public class ColumnMap extends AbstractColumn {
         }
     }
 
+    /**
+     * Replace the values with {@code rows} maps read from the stream. The keys and values of all rows stay in two
+     * columns, the maps returned by {@link #value(int)} are read-only views of them until they are modified.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        long[] ends = new long[rows];
+        deserializer.readLongs(ends, rows);
+        readOffsets = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            readOffsets[i + 1] = (int) ends[i];
+        }
+        IDataType<?, ?>[] types = ((DataTypeMap) type).getNestedTypes();
+        keys = ColumnFactory.readColumn(null, types[0], readOffsets[rows], deserializer);
+        values = ColumnFactory.readColumn(null, types[1], readOffsets[rows], deserializer);
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (keys == null) {
+            return super.value(idx);
+        }
+        return new ColumnMapView(keys, values, readOffsets[idx], readOffsets[idx + 1] - readOffsets[idx]);
+    }
+
     @Override
     public void write(Object object) throws IOException, SQLException {
         if (object instanceof Map) {
             Map<?, ?> dataMap = (Map<?, ?>) object;
-            offsets.add(offsets.isEmpty() ? dataMap.size() : offsets.get((offsets.size() - 1)) + dataMap.size());
+            if (offsetCnt == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsetCnt * 2);
+            }
+            offsets[offsetCnt] = offsetCnt == 0 ? dataMap.size() : offsets[offsetCnt - 1] + dataMap.size();
+            offsetCnt++;
 
             for (Object key : dataMap.keySet()) {
                 columnDataArray[0].write(key);
@@ -57,9 +95,7 @@ public class ColumnMap extends AbstractColumn {
     }
 
     public void flushOffsets(BinarySerializer serializer) throws IOException {
-        for (long offsetList : offsets) {
-            serializer.writeLong(offsetList);
-        }
+        serializer.writeLongs(offsets, 0, offsetCnt);
     }
 
     @Override
@@ -73,7 +109,7 @@ public class ColumnMap extends AbstractColumn {
 
     @Override
     public void clear() {
-        offsets.clear();
+        offsetCnt = 0;
         for (IColumn nestedColumn : columnDataArray) {
             nestedColumn.clear();
         }
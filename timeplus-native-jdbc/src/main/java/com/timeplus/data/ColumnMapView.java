@@ -0,0 +1,237 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map value read from a block, a view of the entries [offset, offset + length) of the key and value columns of
+ * the whole block. Lookups scan the keys, which is cheaper than hashing for the few entries maps usually hold.
+ * A HashMap is only built when the map is modified, or iterated while it holds duplicate keys, which are looked
+ * for once without boxing the keys.
+ */
+final class ColumnMapView extends AbstractMap<Object, Object> {
+
+    private final IColumn keys;
+    private final IColumn values;
+    private final int offset;
+    private final int length;
+
+    @Nullable
+    private Map<Object, Object> copy;
+    // whether the keys were checked for duplicates and found distinct
+    private boolean distinct;
+
+    ColumnMapView(IColumn keys, IColumn values, int offset, int length) {
+        this.keys = keys;
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        int idx = indexOf(key);
+        return idx < 0 ? null : values.value(idx);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return copy != null ? copy.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return entries().size();
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        return entries();
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    // the last entry of a key wins, as it did when the rows were decoded into HashMaps
+    private int indexOf(Object key) {
+        if (key instanceof String && keys instanceof ColumnString) {
+            ColumnString strings = (ColumnString) keys;
+            byte[] bytes = ((String) key).getBytes(strings.charset());
+            for (int i = offset + length - 1; i >= offset; i--) {
+                if (strings.bytesEqual(i, bytes)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = offset + length - 1; i >= offset; i--) {
+            Object k = keys.value(i);
+            if (key == null ? k == null : key.equals(k)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Set<Entry<Object, Object>> entries() {
+        if (copy == null && !distinct) {
+            if (hasDuplicateKeys()) {
+                copy = toHashMap();
+            } else {
+                distinct = true;
+            }
+        }
+        return copy != null ? copy.entrySet() : new EntrySet();
+    }
+
+    // an open addressing table of key positions, keys are hashed and compared in their columns without boxing
+    private boolean hasDuplicateKeys() {
+        if (length < 2) {
+            return false;
+        }
+        int[] slots = new int[Integer.highestOneBit(length * 2 - 1) << 1];
+        int mask = slots.length - 1;
+        for (int i = offset; i < offset + length; i++) {
+            int slot = mix(keyHash(i)) & mask;
+            while (slots[slot] != 0) {
+                if (keysEqual(slots[slot] - 1, i)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // positions are stored + 1, 0 marks an empty slot
+            slots[slot] = i + 1;
+        }
+        return false;
+    }
+
+    private int keyHash(int idx) {
+        if (keys instanceof ColumnString) {
+            return ((ColumnString) keys).bytesHash(idx);
+        }
+        if (keys instanceof ColumnLowCardinality && ((ColumnLowCardinality) keys).dictionary() != null) {
+            return ((ColumnLowCardinality) keys).dictionaryIndex(idx);
+        }
+        if (isFloating(keys)) {
+            return Long.hashCode(Double.doubleToLongBits(((IPrimitiveColumn) keys).doubleValue(idx)));
+        }
+        if (isIntegral(keys)) {
+            return Long.hashCode(((IPrimitiveColumn) keys).longValue(idx));
+        }
+        return Objects.hashCode(keys.value(idx));
+    }
+
+    private boolean keysEqual(int idx, int other) {
+        if (keys instanceof ColumnString) {
+            return ((ColumnString) keys).bytesEqual(idx, other);
+        }
+        if (keys instanceof ColumnLowCardinality && ((ColumnLowCardinality) keys).dictionary() != null) {
+            // equal values of a block share their dictionary index
+            ColumnLowCardinality lowCardinality = (ColumnLowCardinality) keys;
+            return lowCardinality.dictionaryIndex(idx) == lowCardinality.dictionaryIndex(other);
+        }
+        if (isFloating(keys)) {
+            IPrimitiveColumn floats = (IPrimitiveColumn) keys;
+            return Double.doubleToLongBits(floats.doubleValue(idx))
+                    == Double.doubleToLongBits(floats.doubleValue(other));
+        }
+        if (isIntegral(keys)) {
+            IPrimitiveColumn integers = (IPrimitiveColumn) keys;
+            return integers.longValue(idx) == integers.longValue(other);
+        }
+        return Objects.equals(keys.value(idx), keys.value(other));
+    }
+
+    private static boolean isFloating(IColumn column) {
+        return column instanceof ColumnDouble || column instanceof ColumnFloat;
+    }
+
+    // longValue is exact for these, unlike wide integers and decimals
+    private static boolean isIntegral(IColumn column) {
+        return column instanceof ColumnLong || column instanceof ColumnInt
+                || column instanceof ColumnShort || column instanceof ColumnByte;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private Map<Object, Object> materialize() {
+        if (copy == null) {
+            copy = toHashMap();
+        }
+        return copy;
+    }
+
+    private Map<Object, Object> toHashMap() {
+        Map<Object, Object> map = new HashMap<>();
+        for (int i = offset; i < offset + length; i++) {
+            map.put(keys.value(i), values.value(i));
+        }
+        return map;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Object, Object>> {
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public Iterator<Entry<Object, Object>> iterator() {
+            return new Iterator<Entry<Object, Object>>() {
+                private int next = offset;
+
+                @Override
+                public boolean hasNext() {
+                    return next < offset + length;
+                }
+
+                @Override
+                public Entry<Object, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int idx = next++;
+                    return new SimpleImmutableEntry<>(keys.value(idx), values.value(idx));
+                }
+            };
+        }
+    }
+}
@@ -15,33 +15,78 @@
 package com.timeplus.data;
 
 import com.timeplus.data.type.complex.DataTypeNullable;
+import com.timeplus.serde.BinaryDeserializer;
 import com.timeplus.serde.BinarySerializer;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 public class ColumnNullable extends AbstractColumn {
 
-    private final List<Byte> nullableSign;
+    // one byte per written row, 1 for null, written with one bulk call
+    private byte[] nullableSign;
+    private int signCnt;
     // data represents nested column in ColumnArray
     private final IColumn nestedColumn;
 
+    // read from a block: the null map as received and the nested column holding a padding value for null rows
+    private byte[] readNullMap;
+    @Nullable
+    private IColumn readNested;
+
     public ColumnNullable(String name, DataTypeNullable type, Object[] values) {
         super(name, type, values);
-        nullableSign = new ArrayList<>();
+        nullableSign = new byte[16];
         nestedColumn = ColumnFactory.createColumn(null, type.getNestedDataType(), null);
     }
 
+    /**
+     * Replace the values with {@code rows} values read from the stream, the nested values are kept in their own
+     * column, e.g. unboxed for fixed-width numbers.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        readNullMap = deserializer.readBytes(rows);
+        readNested = ColumnFactory.readColumn(null, ((DataTypeNullable) type).getNestedDataType(), rows,
+                deserializer);
+    }
+
+    /**
+     * The nested column read from a block, its value of a null row is a padding value. Null on columns which were
+     * not read from a block.
+     */
+    @Nullable
+    public IColumn nested() {
+        return readNested;
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (readNested == null) {
+            return super.value(idx);
+        }
+        return readNullMap[idx] != 0 ? null : readNested.value(idx);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        if (readNested == null) {
+            return super.value(idx) == null;
+        }
+        return readNullMap[idx] != 0;
+    }
+
     @Override
     public void write(@Nullable Object object) throws IOException, SQLException {
+        if (signCnt == nullableSign.length) {
+            nullableSign = Arrays.copyOf(nullableSign, signCnt * 2);
+        }
         if (object == null) {
-            nullableSign.add((byte) 1);
+            nullableSign[signCnt++] = 1;
             nestedColumn.write(type.defaultValue()); // write whatever for padding
         } else {
-            nullableSign.add((byte) 0);
+            nullableSign[signCnt++] = 0;
             nestedColumn.write(object);
         }
     }
@@ -52,12 +97,18 @@ public class ColumnNullable extends AbstractColumn {
         nestedColumn.setColumnWriterBuffer(buffer);
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        signCnt = 0;
+        nestedColumn.clear();
+    }
 
     @Override
     public void SerializeBulk(BinarySerializer serializer, Boolean now) throws IOException, SQLException {
-        for (byte sign : nullableSign) {
-            serializer.writeByte(sign);
-        }
+        serializer.writeBytes(nullableSign, 0, signCnt);
+        // columns writing through the shared buffer leave this to buffer.writeTo below
+        nestedColumn.SerializeBulk(serializer, false);
 
         if (now)
             buffer.writeTo(serializer);
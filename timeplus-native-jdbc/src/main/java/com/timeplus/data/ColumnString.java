@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.data.type.complex.DataTypeString;
+import com.timeplus.serde.BinaryDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * String column read from a block, all values are kept in one byte arena and indexed by their offsets.
+ * A String is only created when the value is asked for, the bytes can be read without one.
+ * Rows appended for insert are encoded into the column buffer like {@link Column}.
+ */
+public class ColumnString extends Column {
+
+    private static final int INITIAL_ARENA_LIMIT = 1 << 20;
+    // the largest array most JVMs can allocate
+    private static final int MAX_ARENA_BYTES = Integer.MAX_VALUE - 8;
+
+    private final Charset charset;
+    private byte[] arena = new byte[0];
+    // value i spans [offsets[i], offsets[i + 1])
+    private int[] offsets = new int[1];
+
+    public ColumnString(String name, DataTypeString type) {
+        super(name, type, null);
+        this.charset = type.charset();
+    }
+
+    /**
+     * Replace the values with {@code rows} values decoded from the stream.
+     */
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        offsets = new int[rows + 1];
+        // a first guess of 16 bytes per value, capped so large blocks grow from the bytes actually read
+        arena = new byte[(int) Math.min((long) rows * 16, INITIAL_ARENA_LIMIT)];
+        int position = 0;
+        for (int row = 0; row < rows; row++) {
+            int length = (int) deserializer.readVarInt();
+            if (position + (long) length > arena.length) {
+                long required = (long) position + length;
+                if (required > MAX_ARENA_BYTES) {
+                    throw new IOException("String column of " + rows + " rows exceeds " + MAX_ARENA_BYTES + " bytes");
+                }
+                arena = Arrays.copyOf(arena, (int) Math.min(MAX_ARENA_BYTES,
+                        Math.max(required, (long) arena.length * 2)));
+            }
+            deserializer.readBytes(arena, position, length);
+            position += length;
+            offsets[row + 1] = position;
+        }
+    }
+
+    @Override
+    public Object value(int idx) {
+        return new String(arena, offsets[idx], length(idx), charset);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return false;
+    }
+
+    /**
+     * Length in bytes of the value.
+     */
+    public int length(int idx) {
+        return offsets[idx + 1] - offsets[idx];
+    }
+
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * Whether the value is made of exactly {@code bytes}, compared in the arena without creating a String.
+     */
+    public boolean bytesEqual(int idx, byte[] bytes) {
+        int start = offsets[idx];
+        if (offsets[idx + 1] - start != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (arena[start + i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether two values of the column have the same bytes.
+     */
+    public boolean bytesEqual(int idx, int other) {
+        int start = offsets[idx];
+        int otherStart = offsets[other];
+        int length = offsets[idx + 1] - start;
+        if (offsets[other + 1] - otherStart != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (arena[start + i] != arena[otherStart + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hash of the bytes of the value, equal for values with {@link #bytesEqual(int, int)}.
+     */
+    public int bytesHash(int idx) {
+        int hash = 1;
+        for (int i = offsets[idx]; i < offsets[idx + 1]; i++) {
+            hash = 31 * hash + arena[i];
+        }
+        return hash;
+    }
+
+    public byte[] bytes(int idx) {
+        return Arrays.copyOfRange(arena, offsets[idx], offsets[idx + 1]);
+    }
+
+    /**
+     * Read-only view of the bytes of the value, valid as long as the column is.
+     */
+    public ByteBuffer slice(int idx) {
+        return ByteBuffer.wrap(arena, offsets[idx], length(idx)).slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        arena = new byte[0];
+        offsets = new int[1];
+    }
+}
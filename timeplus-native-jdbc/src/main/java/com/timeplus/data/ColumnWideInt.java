@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Column of Int128/UInt128/Int256/UInt256 values kept as 2 or 4 longs per row, least significant first like the
+ * native format, both for rows appended for insert, written with one bulk call, and for rows read from a block.
+ * A BigInteger is only created when the value is asked for, the primitive accessors use the lowest long like
+ * {@link BigInteger#longValue()}.
+ */
+public class ColumnWideInt extends AbstractColumn implements IPrimitiveColumn {
+
+    private final int words;
+    private final boolean signed;
+    private long[] data;
+    private int size;
+
+    public ColumnWideInt(String name, IDataType<?, ?> type, boolean signed, Object[] values) {
+        super(name, type, null);
+        this.words = type.byteSize() / Long.BYTES;
+        this.signed = signed;
+        this.data = new long[16 * words];
+        if (values != null && values.length > 0) {
+            data = new long[values.length * words];
+            for (int i = 0; i < values.length; i++) {
+                set(i, (Number) values[i]);
+            }
+            size = values.length;
+        }
+    }
+
+    @Override
+    public void read(int rows, BinaryDeserializer deserializer) throws IOException {
+        data = new long[rows * words];
+        deserializer.readLongs(data, rows * words);
+        size = rows;
+    }
+
+    @Override
+    public Object value(int idx) {
+        int offset = idx * words;
+        byte[] bytes = new byte[words * Long.BYTES];
+        for (int w = 0; w < words; w++) {
+            long word = data[offset + w];
+            // big endian for BigInteger, the most significant word comes first
+            int at = (words - 1 - w) * Long.BYTES;
+            for (int b = Long.BYTES - 1; b >= 0; b--) {
+                bytes[at + b] = (byte) word;
+                word >>>= 8;
+            }
+        }
+        return signed ? new BigInteger(bytes) : new BigInteger(1, bytes);
+    }
+
+    @Override
+    public byte byteValue(int idx) {
+        return (byte) longValue(idx);
+    }
+
+    @Override
+    public short shortValue(int idx) {
+        return (short) longValue(idx);
+    }
+
+    @Override
+    public int intValue(int idx) {
+        return (int) longValue(idx);
+    }
+
+    @Override
+    public long longValue(int idx) {
+        return data[idx * words];
+    }
+
+    @Override
+    public float floatValue(int idx) {
+        return fitsLong(idx) ? (float) longValue(idx) : ((BigInteger) value(idx)).floatValue();
+    }
+
+    @Override
+    public double doubleValue(int idx) {
+        return fitsLong(idx) ? (double) longValue(idx) : ((BigInteger) value(idx)).doubleValue();
+    }
+
+    // whether the value equals its lowest long, the upper words only repeat its sign
+    private boolean fitsLong(int idx) {
+        int offset = idx * words;
+        long low = data[offset];
+        if (!signed && low < 0)
+            return false;
+        long extension = low >> 63;
+        for (int w = 1; w < words; w++) {
+            if (data[offset + w] != extension)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Accepts BigInteger as well as any other Number by its long value, sign extended for the signed types and
+     * taken as unsigned 64 bits for the unsigned ones.
+     */
+    @Override
+    public void write(Object object) throws IOException, SQLException {
+        if ((size + 1) * words > data.length) {
+            data = Arrays.copyOf(data, Math.max(16, size * 2) * words);
+        }
+        set(size++, (Number) object);
+    }
+
+    private void set(int idx, Number value) {
+        int offset = idx * words;
+        if (value instanceof BigInteger) {
+            BigInteger big = (BigInteger) value;
+            for (int w = 0; w < words; w++) {
+                data[offset + w] = big.shiftRight(w * Long.SIZE).longValue();
+            }
+            return;
+        }
+        long low = value.longValue();
+        long extension = signed ? low >> 63 : 0;
+        data[offset] = low;
+        for (int w = 1; w < words; w++) {
+            data[offset + w] = extension;
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        size = 0;
+    }
+
+    @Override
+    public void SerializeBulk(BinarySerializer serializer, Boolean now) throws IOException, SQLException {
+        // nothing goes through the column buffer, so it is written right away whether nested or not
+        serializer.writeLongs(data, 0, size * words);
+    }
+}
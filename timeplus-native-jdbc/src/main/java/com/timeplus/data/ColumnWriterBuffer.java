@@ -19,7 +19,9 @@ import com.timeplus.serde.BinarySerializer;
 import com.timeplus.settings.TimeplusDefines;
 
 import java.io.IOException;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 public class ColumnWriterBuffer {
 
@@ -33,11 +35,13 @@ public class ColumnWriterBuffer {
     }
 
     public void writeTo(BinarySerializer serializer) throws IOException {
-        for (ByteBuffer buffer : columnWriter.getBufferList()) {
-            serializer.writeBytes(buffer.array(), buffer.arrayOffset(), buffer.position());
-            // put buffer into state matching original flip() + relative get() behaviour; likely unnecessary
-            buffer.limit(buffer.position());
+        List<ByteBuffer> buffers = columnWriter.getBufferList();
+        for (ByteBuffer buffer : buffers) {
+            // upcast is necessary, see ByteArrayWriter#reset
+            ((Buffer) buffer).flip();
         }
+        // chunks are handed over as they are, the serializer consumes them without staging another copy
+        serializer.writeBytes(buffers);
     }
 
     public void reset() {
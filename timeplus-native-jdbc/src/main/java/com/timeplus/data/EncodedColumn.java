@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import com.timeplus.buffer.ByteArrayReader;
+import com.timeplus.data.type.complex.DataTypeNullable;
+import com.timeplus.data.type.complex.DataTypeString;
+import com.timeplus.serde.BinaryDeserializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * A column of a received block copied out of the stream as it is encoded, and decoded on first access.
+ * Fixed-width values are copied in one go, strings are only walked to find their end.
+ */
+final class EncodedColumn {
+
+    /**
+     * Copy the column without decoding it, or return null for types whose end cannot be found without decoding
+     * them, those are read as usual.
+     */
+    @Nullable
+    static EncodedColumn readFrom(String name, IDataType<?, ?> type, int rows,
+                                  BinaryDeserializer deserializer) throws IOException {
+        if (!isCopyable(type))
+            return null;
+
+        EncodedColumn column = new EncodedColumn(name, type, rows);
+        column.copy(type, deserializer);
+        return column;
+    }
+
+    private static boolean isCopyable(IDataType<?, ?> type) {
+        if (type instanceof DataTypeNullable)
+            return isCopyable(((DataTypeNullable) type).getNestedDataType());
+        return type.byteSize() > 0 || type instanceof DataTypeString;
+    }
+
+    private final String name;
+    private final IDataType<?, ?> type;
+    private final int rows;
+    private byte[] bytes = new byte[0];
+    private int length;
+
+    private EncodedColumn(String name, IDataType<?, ?> type, int rows) {
+        this.name = name;
+        this.type = type;
+        this.rows = rows;
+    }
+
+    String name() {
+        return name;
+    }
+
+    IColumn decode() throws IOException, SQLException {
+        BinaryDeserializer deserializer = new BinaryDeserializer(new ByteArrayReader(bytes, 0, length), false);
+        return ColumnFactory.readColumn(name, type, rows, deserializer);
+    }
+
+    private void copy(IDataType<?, ?> type, BinaryDeserializer deserializer) throws IOException {
+        if (type instanceof DataTypeNullable) {
+            // null map
+            copyBytes(rows, deserializer);
+            copy(((DataTypeNullable) type).getNestedDataType(), deserializer);
+        } else if (type instanceof DataTypeString) {
+            for (int row = 0; row < rows; row++) {
+                int size = (int) deserializer.readVarInt();
+                writeVarInt(size);
+                copyBytes(size, deserializer);
+            }
+        } else {
+            copyBytes(rows * type.byteSize(), deserializer);
+        }
+    }
+
+    private void copyBytes(int n, BinaryDeserializer deserializer) throws IOException {
+        ensureCapacity(n);
+        deserializer.readBytes(bytes, length, n);
+        length += n;
+    }
+
+    private void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int n) {
+        if (length + n > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(length + n, Math.max(16, bytes.length * 2)));
+        }
+    }
+}
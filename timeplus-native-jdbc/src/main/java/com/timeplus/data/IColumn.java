@@ -29,6 +29,13 @@ public interface IColumn {
 
     Object value(int idx);
 
+    /**
+     * Whether {@link #value(int)} is null, columns which cannot hold nulls answer without creating the value.
+     */
+    default boolean isNull(int idx) {
+        return value(idx) == null;
+    }
+
     void write(Object object) throws IOException, SQLException;
 
     void clear();
@@ -59,6 +59,13 @@ public interface IDataType<CK, JDBC> {
 
     int getScale();
 
+    /**
+     * Size in bytes of every value in the native format, 0 for types without a fixed width.
+     */
+    default int byteSize() {
+        return 0;
+    }
+
     default String serializeText(CK value) {
         return value.toString();
     }
@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.timeplus.data;
+
+import com.timeplus.serde.BinaryDeserializer;
+
+import java.io.IOException;
+
+/**
+ * A column of fixed-width numbers stored unboxed. The accessors convert like the {@link Number} methods of the
+ * boxed value returned by {@link #value(int)}, so the primitive getters of the result set read it without boxing.
+ */
+public interface IPrimitiveColumn extends IColumn {
+
+    /**
+     * Replace the values with {@code rows} values decoded in bulk.
+     */
+    void read(int rows, BinaryDeserializer deserializer) throws IOException;
+
+    byte byteValue(int idx);
+
+    short shortValue(int idx);
+
+    int intValue(int idx);
+
+    long longValue(int idx);
+
+    float floatValue(int idx);
+
+    double doubleValue(int idx);
+
+    @Override
+    default boolean isNull(int idx) {
+        return false;
+    }
+}
@@ -43,6 +43,11 @@ public class DataTypeBool implements BaseDataTypeBool<Byte, Byte> {
         return 4;
     }
 
+    @Override
+    public int byteSize() {
+        return 1;
+    }
+
     @Override
     public void serializeBinary(Byte data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeByte(data);
@@ -53,6 +58,17 @@ public class DataTypeBool implements BaseDataTypeBool<Byte, Byte> {
         return deserializer.readByte();
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        byte[] values = new byte[rows];
+        deserializer.readBytes(values, 0, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row];
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"TINYINT"};
@@ -63,6 +63,11 @@ public class DataTypeDate implements IDataType<LocalDate, Date> {
         return 10;
     }
 
+    @Override
+    public int byteSize() {
+        return 2;
+    }
+
     @Override
     public int getScale() {
         return 0;
@@ -80,6 +85,17 @@ public class DataTypeDate implements IDataType<LocalDate, Date> {
         return LocalDate.ofEpochDay(epochDay & 0xFFFF);
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        short[] values = new short[rows];
+        deserializer.readShorts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = LocalDate.ofEpochDay(values[row] & 0xFFFF);
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[0];
@@ -64,6 +64,11 @@ public class DataTypeDate32 implements IDataType<LocalDate, Date> {
         return 10;
     }
 
+    @Override
+    public int byteSize() {
+        return 4;
+    }
+
     @Override
     public int getScale() {
         return 0;
@@ -81,6 +86,17 @@ public class DataTypeDate32 implements IDataType<LocalDate, Date> {
         return LocalDate.ofEpochDay(epochDay);
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        int[] values = new int[rows];
+        deserializer.readInts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = LocalDate.ofEpochDay(values[row]);
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[0];
@@ -50,6 +50,11 @@ public class DataTypeFloat32 implements IDataType<Float, Float> {
         return 8;
     }
 
+    @Override
+    public int byteSize() {
+        return 4;
+    }
+
     @Override
     public int getScale() {
         return 8;
@@ -65,6 +70,17 @@ public class DataTypeFloat32 implements IDataType<Float, Float> {
         return deserializer.readFloat();
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        float[] values = new float[rows];
+        deserializer.readFloats(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row];
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"float"};
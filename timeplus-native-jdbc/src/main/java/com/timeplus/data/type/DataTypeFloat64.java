@@ -50,6 +50,11 @@ public class DataTypeFloat64 implements IDataType<Double, Double> {
         return 17;
     }
 
+    @Override
+    public int byteSize() {
+        return 8;
+    }
+
     @Override
     public int getScale() {
         return 17;
@@ -65,6 +70,17 @@ public class DataTypeFloat64 implements IDataType<Double, Double> {
         return deserializer.readDouble();
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        double[] values = new double[rows];
+        deserializer.readDoubles(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row];
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"double"};
@@ -50,6 +50,11 @@ public class DataTypeIPv4 implements IDataType<Long, Long> {
         return 0;
     }
 
+    @Override
+    public int byteSize() {
+        return 4;
+    }
+
     @Override
     public int getScale() {
         return 15;
@@ -65,6 +70,17 @@ public class DataTypeIPv4 implements IDataType<Long, Long> {
         return deserializer.readInt() & 0xffffffffL;
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        int[] values = new int[rows];
+        deserializer.readInts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row] & 0xffffffffL;
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[0];
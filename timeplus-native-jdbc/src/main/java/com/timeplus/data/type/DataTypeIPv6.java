@@ -51,6 +51,11 @@ public class DataTypeIPv6 implements IDataType<BigInteger, BigInteger> {
         return 0;
     }
 
+    @Override
+    public int byteSize() {
+        return 16;
+    }
+
     @Override
     public int getScale() {
         return 39;
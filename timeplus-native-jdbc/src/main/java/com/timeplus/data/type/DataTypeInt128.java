@@ -51,6 +51,11 @@ public class DataTypeInt128 implements IDataType<BigInteger, BigInteger> {
         return 40;  //should be 39 but add one
     }
 
+    @Override
+    public int byteSize() {
+        return 16;
+    }
+
     @Override
     public int getScale() {
         return 0;
@@ -43,6 +43,11 @@ public class DataTypeInt16 implements BaseDataTypeInt16<Short, Short> {
         return 6;
     }
 
+    @Override
+    public int byteSize() {
+        return 2;
+    }
+
 
     @Override
     public void serializeBinary(Short data, BinarySerializer serializer) throws SQLException, IOException {
@@ -54,6 +59,17 @@ public class DataTypeInt16 implements BaseDataTypeInt16<Short, Short> {
         return deserializer.readShort();
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        short[] values = new short[rows];
+        deserializer.readShorts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row];
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"SMALLINT"};
@@ -51,6 +51,11 @@ public class DataTypeInt256 implements IDataType<BigInteger, BigInteger> {
         return 78;  //should be 77 but add one
     }
 
+    @Override
+    public int byteSize() {
+        return 32;
+    }
+
     @Override
     public int getScale() {
         return 0;
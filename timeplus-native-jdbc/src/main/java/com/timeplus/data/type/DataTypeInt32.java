@@ -43,6 +43,11 @@ public class DataTypeInt32 implements BaseDataTypeInt32<Integer, Integer> {
         return 11;
     }
 
+    @Override
+    public int byteSize() {
+        return 4;
+    }
+
     @Override
     public void serializeBinary(Integer data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeInt(data);
@@ -53,6 +58,17 @@ public class DataTypeInt32 implements BaseDataTypeInt32<Integer, Integer> {
         return deserializer.readInt();
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        int[] values = new int[rows];
+        deserializer.readInts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row];
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"int", "integer"};
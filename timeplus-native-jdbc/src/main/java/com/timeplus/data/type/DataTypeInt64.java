@@ -43,6 +43,11 @@ public class DataTypeInt64 implements BaseDataTypeInt64<Long, Long> {
         return 20;
     }
 
+    @Override
+    public int byteSize() {
+        return 8;
+    }
+
     @Override
     public void serializeBinary(Long data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeLong(data);
@@ -53,6 +58,17 @@ public class DataTypeInt64 implements BaseDataTypeInt64<Long, Long> {
         return deserializer.readLong();
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        long[] values = new long[rows];
+        deserializer.readLongs(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row];
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"bigint"};
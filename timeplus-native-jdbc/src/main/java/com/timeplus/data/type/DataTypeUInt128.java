@@ -48,6 +48,11 @@ public class DataTypeUInt128 implements BaseDataTypeInt64<BigInteger, BigInteger
         return 39;  //use the origin precision
     }
 
+    @Override
+    public int byteSize() {
+        return 16;
+    }
+
     @Override
     public void serializeBinary(BigInteger data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeBigInteger(data, 16);  //seem to be lack of boundary check
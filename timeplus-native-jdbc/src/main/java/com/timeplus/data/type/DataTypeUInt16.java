@@ -43,6 +43,11 @@ public class DataTypeUInt16 implements BaseDataTypeInt16<Integer, Integer> {
         return 5;
     }
 
+    @Override
+    public int byteSize() {
+        return 2;
+    }
+
     @Override
     public void serializeBinary(Integer data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeShort(data.shortValue());
@@ -54,6 +59,17 @@ public class DataTypeUInt16 implements BaseDataTypeInt16<Integer, Integer> {
         return s & 0xffff;
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        short[] values = new short[rows];
+        deserializer.readShorts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = values[row] & 0xffff;
+        }
+        return data;
+    }
+
     @Override
     public Integer deserializeText(SQLLexer lexer) throws SQLException {
         return lexer.numberLiteral().intValue();
@@ -48,6 +48,11 @@ public class DataTypeUInt256 implements BaseDataTypeInt64<BigInteger, BigInteger
         return 78;  //use the origin precision
     }
 
+    @Override
+    public int byteSize() {
+        return 32;
+    }
+
     @Override
     public void serializeBinary(BigInteger data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeBigInteger(data, 32);  //seem to be lack of boundary check
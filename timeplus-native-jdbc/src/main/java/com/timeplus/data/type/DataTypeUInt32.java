@@ -43,6 +43,11 @@ public class DataTypeUInt32 implements BaseDataTypeInt32<Long, Long> {
         return 10;
     }
 
+    @Override
+    public int byteSize() {
+        return 4;
+    }
+
     @Override
     public void serializeBinary(Long data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeInt(data.intValue());
@@ -54,6 +59,17 @@ public class DataTypeUInt32 implements BaseDataTypeInt32<Long, Long> {
         return 0xffffffffL & res;
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        int[] values = new int[rows];
+        deserializer.readInts(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = 0xffffffffL & values[row];
+        }
+        return data;
+    }
+
     @Override
     public Long deserializeText(SQLLexer lexer) throws SQLException {
         return lexer.numberLiteral().longValue();
@@ -48,6 +48,11 @@ public class DataTypeUInt64 implements BaseDataTypeInt64<BigInteger, BigInteger>
         return 19;
     }
 
+    @Override
+    public int byteSize() {
+        return 8;
+    }
+
     @Override
     public void serializeBinary(BigInteger data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeLong(data.longValue());
@@ -59,6 +64,17 @@ public class DataTypeUInt64 implements BaseDataTypeInt64<BigInteger, BigInteger>
         return new BigInteger(1, getBytes(l));
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        long[] values = new long[rows];
+        deserializer.readLongs(values, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = new BigInteger(1, getBytes(values[row]));
+        }
+        return data;
+    }
+
     @Override
     public String[] getAliases() {
         return new String[0];
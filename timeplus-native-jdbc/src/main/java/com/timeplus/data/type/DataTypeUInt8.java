@@ -43,6 +43,11 @@ public class DataTypeUInt8 implements BaseDataTypeInt8<Short, Short> {
         return 3;
     }
 
+    @Override
+    public int byteSize() {
+        return 1;
+    }
+
     @Override
     public void serializeBinary(Short data, BinarySerializer serializer) throws SQLException, IOException {
         serializer.writeByte(data.byteValue());
@@ -54,6 +59,17 @@ public class DataTypeUInt8 implements BaseDataTypeInt8<Short, Short> {
         return (short) (b & 0xff);
     }
 
+    @Override
+    public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
+        byte[] values = new byte[rows];
+        deserializer.readBytes(values, 0, rows);
+        Object[] data = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            data[row] = (short) (values[row] & 0xff);
+        }
+        return data;
+    }
+
     @Override
     public Short deserializeText(SQLLexer lexer) throws SQLException {
         return lexer.numberLiteral().shortValue();
@@ -56,6 +56,11 @@ public class DataTypeUUID implements IDataType<UUID, String> {
         return 36;
     }
 
+    @Override
+    public int byteSize() {
+        return 16;
+    }
+
     @Override
     public int getScale() {
         return 0;
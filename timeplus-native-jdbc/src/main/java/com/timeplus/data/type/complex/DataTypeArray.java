@@ -14,6 +14,7 @@
 
 package com.timeplus.data.type.complex;
 
+import com.timeplus.data.ColumnArray;
 import com.timeplus.data.DataTypeFactory;
 import com.timeplus.data.IDataType;
 import com.timeplus.data.type.DataTypeInt64;
@@ -28,7 +29,6 @@ import java.sql.Array;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 // TODO avoid using TimeplusArray because it's a subclass of java.sql.Array
@@ -137,14 +137,10 @@ public class DataTypeArray implements IDataType<TimeplusArray, Array> {
             return arrays;
         }
 
-        int[] offsets = Arrays.stream(offsetIDataType.deserializeBinaryBulk(rows, deserializer)).mapToInt(value -> ((Long) value).intValue()).toArray();
-        TimeplusArray res = new TimeplusArray(elemDataType,
-                elemDataType.deserializeBinaryBulk(offsets[rows - 1], deserializer));
-
-        for (int row = 0, lastOffset = 0; row < rows; row++) {
-            int offset = offsets[row];
-            arrays[row] = res.slice(lastOffset, offset - lastOffset);
-            lastOffset = offset;
+        ColumnArray column = new ColumnArray(null, this, null);
+        column.read(rows, deserializer);
+        for (int row = 0; row < rows; row++) {
+            arrays[row] = (TimeplusArray) column.value(row);
         }
         return arrays;
     }
@@ -51,6 +51,10 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
         this.defaultValue = EPOCH_LOCAL_DT.atZone(tz);
     }
 
+    public ZoneId timeZone() {
+        return tz;
+    }
+
     @Override
     public String name() {
         return name;
@@ -81,6 +85,11 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
         return 0;
     }
 
+    @Override
+    public int byteSize() {
+        return 4;
+    }
+
     @Override
     public int getScale() {
         return 10;
@@ -112,7 +121,7 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
 
     @Override
     public ZonedDateTime deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
-        int epochSeconds = deserializer.readInt();
+        long epochSeconds = deserializer.readInt() & 0xFFFFFFFFL;
         return DateTimeUtil.toZonedDateTime(epochSeconds, 0, tz);
     }
 
@@ -74,6 +74,10 @@ public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
         this.defaultValue = EPOCH_LOCAL_DT.atZone(tz);
     }
 
+    public ZoneId timeZone() {
+        return tz;
+    }
+
     @Override
     public String name() {
         return name;
@@ -104,6 +108,11 @@ public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
         return 20;
     }
 
+    @Override
+    public int byteSize() {
+        return 8;
+    }
+
     @Override
     public int getScale() {
         return scale;
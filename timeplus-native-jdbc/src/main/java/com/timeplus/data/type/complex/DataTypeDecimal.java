@@ -44,14 +44,12 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
     private final String name;
     private final int precision;
     private final int scale;
-    private final BigDecimal scaleFactor;
     private final int nobits;
 
     public DataTypeDecimal(String name, int precision, int scale) {
         this.name = name;
         this.precision = precision;
         this.scale = scale;
-        this.scaleFactor = BigDecimal.valueOf(Math.pow(10, scale));
         if (this.precision <= 9) {
             this.nobits = 32;
         } else if (this.precision <= 18) {
@@ -91,6 +89,11 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
         return precision;
     }
 
+    @Override
+    public int byteSize() {
+        return nobits / 8;
+    }
+
     @Override
     public int getScale() {
         return scale;
@@ -110,27 +113,32 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
         return result;
     }
 
+    /**
+     * The value as sent over the wire: rounded to the scale of the type, without its decimal point.
+     */
+    public BigInteger unscaledValue(BigDecimal data) {
+        return data.setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+    }
+
     @Override
     public void serializeBinary(BigDecimal data, BinarySerializer serializer) throws IOException {
-        BigDecimal targetValue = data.multiply(scaleFactor);
+        BigInteger res = unscaledValue(data);
         switch (this.nobits) {
             case 32: {
-                serializer.writeInt(targetValue.intValue());
+                serializer.writeInt(res.intValue());
                 break;
             }
             case 64: {
-                serializer.writeLong(targetValue.longValue());
+                serializer.writeLong(res.longValue());
                 break;
             }
             case 128: {
-                BigInteger res = targetValue.toBigInteger();
                 serializer.writeLong(res.longValue());
                 serializer.writeLong(res.shiftRight(64).longValue());
                 break;
             }
             case 256: {
-                BigInteger res = targetValue.toBigInteger();
-                serializer.writeLong(targetValue.longValue());
+                serializer.writeLong(res.longValue());
                 serializer.writeLong(res.shiftRight(64).longValue());
                 serializer.writeLong(res.shiftRight(64 * 2).longValue());
                 serializer.writeLong(res.shiftRight(64 * 3).longValue());
@@ -148,15 +156,11 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
         BigDecimal value;
         switch (this.nobits) {
             case 32: {
-                int v = deserializer.readInt();
-                value = BigDecimal.valueOf(v);
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = BigDecimal.valueOf(deserializer.readInt(), scale);
                 break;
             }
             case 64: {
-                long v = deserializer.readLong();
-                value = BigDecimal.valueOf(v);
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = BigDecimal.valueOf(deserializer.readLong(), scale);
                 break;
             }
 
@@ -165,8 +169,7 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
                 array[1] = deserializer.readLong();
                 array[0] = deserializer.readLong();
 
-                value = new BigDecimal(new BigInteger(getBytes(array)));
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = new BigDecimal(new BigInteger(getBytes(array)), scale);
                 break;
             }
 
@@ -177,8 +180,7 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
                 array[1] = deserializer.readLong();
                 array[0] = deserializer.readLong();
 
-                value = new BigDecimal(new BigInteger(getBytes(array)));
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = new BigDecimal(new BigInteger(getBytes(array)), scale);
                 break;
             }
 
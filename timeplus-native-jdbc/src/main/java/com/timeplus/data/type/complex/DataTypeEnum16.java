@@ -24,7 +24,9 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class DataTypeEnum16 implements IDataType<String, String> {
 
@@ -58,13 +60,31 @@ public class DataTypeEnum16 implements IDataType<String, String> {
     };
 
     private final String name;
-    private final Short[] values;
     private final String[] names;
+    // name of every code between the smallest and the largest one, indexed by code - minCode
+    private final String[] namesByCode;
+    private final int minCode;
+    private final Map<String, Short> codesByName;
 
     public DataTypeEnum16(String name, String[] names, Short[] values) {
         this.name = name;
         this.names = names;
-        this.values = values;
+
+        int min = Short.MAX_VALUE;
+        int max = Short.MIN_VALUE;
+        for (Short value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.minCode = min;
+        this.namesByCode = new String[Math.max(0, max - min + 1)];
+        this.codesByName = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            codesByName.putIfAbsent(names[i], values[i]);
+            if (namesByCode[values[i] - minCode] == null) {
+                namesByCode[values[i] - minCode] = names[i];
+            }
+        }
     }
 
     @Override
@@ -92,6 +112,11 @@ public class DataTypeEnum16 implements IDataType<String, String> {
         return 0;
     }
 
+    @Override
+    public int byteSize() {
+        return 2;
+    }
+
     @Override
     public int getScale() {
         return 0;
@@ -104,11 +129,10 @@ public class DataTypeEnum16 implements IDataType<String, String> {
 
     @Override
     public void serializeBinary(String data, BinarySerializer serializer) throws SQLException, IOException {
-        for (int i = 0; i < names.length; i++) {
-            if (data.equals(names[i])) {
-                serializer.writeShort(values[i]);
-                return;
-            }
+        Short code = codesByName.get(data);
+        if (code != null) {
+            serializer.writeShort(code);
+            return;
         }
 
         StringBuilder message = new StringBuilder("Expected ");
@@ -125,12 +149,11 @@ public class DataTypeEnum16 implements IDataType<String, String> {
     @Override
     public String deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
         short value = deserializer.readShort();
-        for (int i = 0; i < values.length; i++) {
-            if (values[i].equals(value)) {
-                return names[i];
-            }
+        int idx = value - minCode;
+        if (idx >= 0 && idx < namesByCode.length && namesByCode[idx] != null) {
+            return namesByCode[idx];
         }
-        throw new SQLException("");
+        throw new SQLException("Unknown value " + value + " of " + name);
     }
 
 }
@@ -24,7 +24,9 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 
 public class DataTypeEnum8 implements IDataType<String, String> {
@@ -59,13 +61,21 @@ public class DataTypeEnum8 implements IDataType<String, String> {
     };
 
     private final String name;
-    private final Byte[] values;
     private final String[] names;
+    // name of every code, indexed by code - Byte.MIN_VALUE
+    private final String[] namesByCode = new String[1 << 8];
+    private final Map<String, Byte> codesByName;
 
     public DataTypeEnum8(String name, String[] names, Byte[] values) {
         this.name = name;
         this.names = names;
-        this.values = values;
+        this.codesByName = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            codesByName.putIfAbsent(names[i], values[i]);
+            if (namesByCode[values[i] - Byte.MIN_VALUE] == null) {
+                namesByCode[values[i] - Byte.MIN_VALUE] = names[i];
+            }
+        }
     }
 
     @Override
@@ -93,6 +103,11 @@ public class DataTypeEnum8 implements IDataType<String, String> {
         return 0;
     }
 
+    @Override
+    public int byteSize() {
+        return 1;
+    }
+
     @Override
     public int getScale() {
         return 0;
@@ -105,11 +120,10 @@ public class DataTypeEnum8 implements IDataType<String, String> {
 
     @Override
     public void serializeBinary(String data, BinarySerializer serializer) throws SQLException, IOException {
-        for (int i = 0; i < names.length; i++) {
-            if (data.equals(names[i])) {
-                serializer.writeByte(values[i]);
-                return;
-            }
+        Byte code = codesByName.get(data);
+        if (code != null) {
+            serializer.writeByte(code);
+            return;
         }
 
         StringJoiner joiner = new StringJoiner(" OR ", "Expected ", ", but was " + data);
@@ -122,12 +136,11 @@ public class DataTypeEnum8 implements IDataType<String, String> {
     @Override
     public String deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
         byte value = deserializer.readByte();
-        for (int i = 0; i < values.length; i++) {
-            if (values[i].equals(value)) {
-                return names[i];
-            }
+        String data = namesByCode[value - Byte.MIN_VALUE];
+        if (data != null) {
+            return data;
         }
-        throw new SQLException("");
+        throw new SQLException("Unknown value " + value + " of " + name);
     }
 
 }
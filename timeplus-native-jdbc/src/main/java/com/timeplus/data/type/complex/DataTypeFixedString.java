@@ -53,6 +53,10 @@ public class DataTypeFixedString implements IDataType<CharSequence, String> {
         this.defaultValue = new String(data, charset);
     }
 
+    public Charset charset() {
+        return charset;
+    }
+
     @Override
     public String name() {
         return name;
@@ -83,6 +87,11 @@ public class DataTypeFixedString implements IDataType<CharSequence, String> {
         return n;
     }
 
+    @Override
+    public int byteSize() {
+        return n;
+    }
+
     @Override
     public int getScale() {
         return 0;
@@ -14,13 +14,9 @@
 
 package com.timeplus.data.type.complex;
 
+import com.timeplus.data.ColumnLowCardinality;
 import com.timeplus.data.DataTypeFactory;
 import com.timeplus.data.IDataType;
-import com.timeplus.data.IndexType;
-import com.timeplus.data.type.DataTypeUInt8;
-import com.timeplus.data.type.DataTypeUInt16;
-import com.timeplus.data.type.DataTypeUInt32;
-import com.timeplus.data.type.DataTypeUInt64;
 import com.timeplus.misc.SQLLexer;
 import com.timeplus.misc.Validate;
 import com.timeplus.serde.BinaryDeserializer;
@@ -42,15 +38,10 @@ public class DataTypeLowCardinality implements IDataType<Object, Object>  {
     private final String name;
     private final IDataType<?, ?>  nestedDataType;
     private final Long version = 1L;
-    private final Long IndexTypeMask = 0b11111111L;
-    private boolean nested_is_nullable;
 
     public DataTypeLowCardinality(String name, IDataType<?, ?>  nestedDataType) {
         this.name = name;
         this.nestedDataType = nestedDataType;
-        if (nestedDataType.nullable()) {
-            nested_is_nullable = true;
-        }
     }
 
     @Override
@@ -115,61 +106,13 @@ public class DataTypeLowCardinality implements IDataType<Object, Object>  {
 
     @Override
     public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
-        if (rows == 0) {
-            Object[] data = getNestedTypes().deserializeBinaryBulk(rows, deserializer);
-            return data;
+        ColumnLowCardinality column = new ColumnLowCardinality(null, this, null);
+        column.read(rows, deserializer);
+        Object[] data = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            data[i] = column.value(i);
         }
-        else {
-            Long index_type = deserializer.readLong() & IndexTypeMask;
-            Long key_nums = deserializer.readLong();
-            Object[] dictionary = new Object[key_nums.intValue()];
-            IDataType inner_type;
-
-            if (nested_is_nullable) {
-                DataTypeNullable type = (DataTypeNullable) getNestedTypes();
-                inner_type = type.getNestedDataType();
-            }
-            else {
-                inner_type = getNestedTypes();
-            }
-            dictionary = inner_type.deserializeBinaryBulk(key_nums.intValue(), deserializer);
-            dictionary[0] = null;
-            Long row_nums = deserializer.readLong();
-
-            if (row_nums != rows) {
-                throw new SQLException("read unexpected rows in low_cardinality, expected:" + rows + ", actual:" + row_nums);
-            }
-
-            IDataType type;
-
-            if (index_type == IndexType.UInt8.getValue()) {
-                type = new DataTypeUInt8();
-            }
-            else if (index_type == IndexType.UInt16.getValue()) {
-                type = new DataTypeUInt16();
-            }
-            else if (index_type == IndexType.UInt32.getValue()) {
-                type = new DataTypeUInt32();
-            }
-            else {
-                type = new DataTypeUInt64();
-            }
-
-            Object[] index_data = type.deserializeBinaryBulk(rows, deserializer);
-            Object[] data = new Object[rows];
-
-            if (type instanceof DataTypeUInt8) {
-                for (int i = 0; i < rows; i++) {
-                    data[i] = dictionary[(short) index_data[i]];
-                }
-            }
-            else {
-                for (int i = 0; i < rows; i++) {
-                    data[i] = dictionary[(Integer) index_data[i]];
-                }
-            }
-            return data;
-        }   
+        return data;
     }
 
     @Override
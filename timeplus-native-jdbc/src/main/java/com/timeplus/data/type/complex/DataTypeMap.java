@@ -16,10 +16,10 @@ package com.timeplus.data.type.complex;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.timeplus.data.ColumnMap;
 import com.timeplus.data.DataTypeFactory;
 import com.timeplus.data.IDataType;
 import com.timeplus.data.type.DataTypeInt64;
@@ -158,20 +158,10 @@ public class DataTypeMap implements IDataType<Object, Object> {
             return arrays;
         }
 
-        int[] offsets = Arrays.stream(offsetIDataType.deserializeBinaryBulk(rows, deserializer))
-                .mapToInt(value -> ((Long) value).intValue()).toArray();
-        Object[] keys = getNestedTypes()[0].deserializeBinaryBulk(offsets[rows - 1], deserializer);
-        Object[] values = getNestedTypes()[1].deserializeBinaryBulk(offsets[rows - 1], deserializer);
-
-        Map<Object, Object> map = new HashMap<Object, Object>();
-        for (int row = 0, lastOffset = 0; row < rows; row++) {
-            int offset = offsets[row];
-            for (int i = lastOffset; i < offset; i++) {
-                map.put(keys[i], values[i]);
-            }
-            lastOffset = offset;
-            arrays[row] = map;
-            map = new HashMap<Object, Object>();
+        ColumnMap column = new ColumnMap(null, this, null);
+        column.read(rows, deserializer);
+        for (int row = 0; row < rows; row++) {
+            arrays[row] = column.value(row);
         }
         return arrays;
     }
@@ -134,11 +134,11 @@ public class DataTypeNullable implements IDataType {
 
     @Override
     public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
-        Object[] nullMap = nullMapDataType.deserializeBinaryBulk(rows, deserializer);
+        byte[] nullMap = deserializer.readBytes(rows);
 
         Object[] data = nestedDataType.deserializeBinaryBulk(rows, deserializer);
         for (int i = 0; i < nullMap.length; i++) {
-            if (IS_NULL.equals(nullMap[i])) {
+            if (nullMap[i] != 0) {
                 data[i] = null;
             }
         }
@@ -14,11 +14,14 @@
 
 package com.timeplus.jdbc;
 
+import com.timeplus.data.IColumn;
 import com.timeplus.data.IDataType;
+import com.timeplus.data.IPrimitiveColumn;
 import com.timeplus.log.Logger;
 import com.timeplus.log.LoggerFactory;
 import com.timeplus.jdbc.wrapper.SQLArray;
 
+import javax.annotation.Nullable;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.StringJoiner;
@@ -29,11 +32,30 @@ public class TimeplusArray implements SQLArray {
     private static final Logger LOG = LoggerFactory.getLogger(TimeplusArray.class);
 
     private final IDataType<?, ?> elementDataType;
-    private final Object[] elements;
+    // boxed on first use when the array is a view of a column
+    private Object[] elements;
+    // elements [offset, offset + length) of a column read from a block, shared by all rows of the block
+    @Nullable
+    private final IColumn column;
+    private final int offset;
+    private final int length;
 
     public TimeplusArray(IDataType<?, ?> elementDataType, Object[] elements) {
         this.elementDataType = elementDataType;
         this.elements = elements;
+        this.column = null;
+        this.offset = 0;
+        this.length = elements.length;
+    }
+
+    /**
+     * A view of {@code length} elements of {@code column} from {@code offset}, the column is not copied.
+     */
+    public TimeplusArray(IDataType<?, ?> elementDataType, IColumn column, int offset, int length) {
+        this.elementDataType = elementDataType;
+        this.column = column;
+        this.offset = offset;
+        this.length = length;
     }
 
     @Override
@@ -52,6 +74,94 @@ public class TimeplusArray implements SQLArray {
 
     @Override
     public Object[] getArray() throws SQLException {
+        return elements();
+    }
+
+    /**
+     * Number of elements.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Position of the first element in the column given by {@code unwrap(IColumn.class)}.
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Besides {@link #getArray()}, the elements are available
+     * <ul>
+     * <li>as a {@code long[]}, {@code int[]}, {@code double[]} or {@code float[]} of the numbers, read without boxing
+     * from the columns of fixed-width numbers,</li>
+     * <li>as the flat column of all elements of the block, e.g. {@code unwrap(IPrimitiveColumn.class)}, the
+     * elements of this array start at {@link #offset()} in it.</li>
+     * </ul>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (column != null && iface.isInstance(column)) {
+            return iface.cast(column);
+        }
+        if (iface == long[].class) {
+            long[] values = new long[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = primitive() != null ? primitive().longValue(offset + i) : number(i).longValue();
+            }
+            return (T) values;
+        }
+        if (iface == int[].class) {
+            int[] values = new int[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = primitive() != null ? primitive().intValue(offset + i) : number(i).intValue();
+            }
+            return (T) values;
+        }
+        if (iface == double[].class) {
+            double[] values = new double[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = primitive() != null ? primitive().doubleValue(offset + i) : number(i).doubleValue();
+            }
+            return (T) values;
+        }
+        if (iface == float[].class) {
+            float[] values = new float[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = primitive() != null ? primitive().floatValue(offset + i) : number(i).floatValue();
+            }
+            return (T) values;
+        }
+        throw new SQLException("Cannot unwrap array of " + elementDataType.name() + " to " + iface.getName());
+    }
+
+    public boolean isWrapperFor(Class<?> iface) {
+        return (column != null && iface.isInstance(column))
+                || iface == long[].class || iface == int[].class || iface == double[].class || iface == float[].class;
+    }
+
+    @Nullable
+    private IPrimitiveColumn primitive() {
+        return column instanceof IPrimitiveColumn ? (IPrimitiveColumn) column : null;
+    }
+
+    private Number number(int i) throws SQLException {
+        Object element = elements()[i];
+        if (!(element instanceof Number)) {
+            throw new SQLException("Array element " + element + " of " + elementDataType.name() + " is not a number");
+        }
+        return (Number) element;
+    }
+
+    private Object[] elements() {
+        if (elements == null) {
+            Object[] boxed = new Object[length];
+            for (int i = 0; i < length; i++) {
+                boxed[i] = column.value(offset + i);
+            }
+            elements = boxed;
+        }
         return elements;
     }
 
@@ -63,7 +173,7 @@ public class TimeplusArray implements SQLArray {
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(",", "[", "]");
-        for (Object item : elements) {
+        for (Object item : elements()) {
             // TODO format by itemDataType
             joiner.add(String.valueOf(item));
         }
@@ -71,13 +181,16 @@ public class TimeplusArray implements SQLArray {
     }
 
     public TimeplusArray slice(int offset, int length) {
+        if (column != null && elements == null) {
+            return new TimeplusArray(elementDataType, column, this.offset + offset, length);
+        }
         Object[] result = new Object[length];
         if (length >= 0) System.arraycopy(elements, offset, result, 0, length);
         return new TimeplusArray(elementDataType, result);
     }
 
     public TimeplusArray mapElements(BiFunction<IDataType<?, ?>, Object, Object> mapFunc) {
-        Object[] mapped = Arrays.stream(elements).map(elem -> mapFunc.apply(elementDataType, elem)).toArray();
+        Object[] mapped = Arrays.stream(elements()).map(elem -> mapFunc.apply(elementDataType, elem)).toArray();
         return new TimeplusArray(elementDataType, mapped);
     }
 }
@@ -263,6 +263,20 @@ public class TimeplusConnection implements SQLConnection {
         return TimeplusConnection.LOG;
     }
 
+    /**
+     * Number of data frames this connection sent compressed.
+     */
+    public long compressedFrames() {
+        return getNativeClient().compressedFrames();
+    }
+
+    /**
+     * Number of data frames this connection sent uncompressed because they did not reach `compression_min_ratio`.
+     */
+    public long skippedCompressionFrames() {
+        return getNativeClient().skippedCompressionFrames();
+    }
+
     public boolean ping(Duration timeout) throws SQLException {
         return nativeCtx.nativeClient().ping(timeout, nativeCtx.serverCtx());
     }
@@ -297,7 +311,32 @@ public class TimeplusConnection implements SQLConnection {
         }
         return block.rowCnt();
     }
+
+    // sends one data block of the INSERT started by #getSampleBlock(), more blocks may follow
+    // until #endInsertRequest() is called
+    public void sendInsertData(Block block) throws SQLException {
+        Validate.isTrue(this.state.get() == SessionState.WAITING_INSERT, "Call getSampleBlock before insert.");
+        getNativeClient().sendData(block);
+    }
+
+    public void endInsertRequest() throws SQLException {
+        Validate.isTrue(this.state.get() == SessionState.WAITING_INSERT, "Call getSampleBlock before insert.");
+        try {
+            NativeClient nativeClient = getNativeClient();
+            nativeClient.sendData(new Block());
+            nativeClient.receiveEndOfStream(cfg.get().queryTimeout(), nativeCtx.serverCtx());
+        } finally {
+            Validate.isTrue(this.state.compareAndSet(SessionState.WAITING_INSERT, SessionState.IDLE));
+        }
+    }
     
+    // gives up an INSERT that failed part way, the blocks already sent cannot be taken back, so the connection
+    // is aborted rather than ending the INSERT
+    public void abortInsertRequest() {
+        this.state.compareAndSet(SessionState.WAITING_INSERT, SessionState.IDLE);
+        getNativeClient().abort();
+    }
+
     private synchronized NativeClient getHealthyNativeClient() throws SQLException {
         NativeContext oldCtx = nativeCtx;
         if (!oldCtx.nativeClient().ping(cfg.get().queryTimeout(), nativeCtx.serverCtx())) {
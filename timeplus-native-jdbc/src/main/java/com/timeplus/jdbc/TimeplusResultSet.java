@@ -15,7 +15,15 @@
 package com.timeplus.jdbc;
 
 import com.timeplus.data.Block;
+import com.timeplus.data.ColumnDate;
+import com.timeplus.data.ColumnDateTime;
+import com.timeplus.data.ColumnFixedBinary;
+import com.timeplus.data.ColumnLowCardinality;
+import com.timeplus.data.ColumnNullable;
+import com.timeplus.data.ColumnString;
 import com.timeplus.data.IColumn;
+import com.timeplus.data.IPrimitiveColumn;
+import com.timeplus.data.type.DataTypeUUID;
 import com.timeplus.exception.TimeplusSQLException;
 import com.timeplus.jdbc.statement.TimeplusStatement;
 import com.timeplus.jdbc.wrapper.SQLResultSet;
@@ -26,15 +34,23 @@ import com.timeplus.misc.DateTimeUtil;
 import com.timeplus.misc.Validate;
 import com.timeplus.protocol.DataResponse;
 import com.timeplus.settings.TimeplusConfig;
+import com.timeplus.stream.QueryResult;
 
+import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.sql.*;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.UUID;
 
 public class TimeplusResultSet implements SQLResultSet {
 
@@ -53,6 +69,8 @@ public class TimeplusResultSet implements SQLResultSet {
     private final String table;
     private final Block header;
     private final CheckedIterator<DataResponse, SQLException> dataResponses;
+    @Nullable
+    private final QueryResult queryResult;
 
     private boolean isFirst = false;
     private boolean isAfterLast = false;
@@ -66,12 +84,31 @@ public class TimeplusResultSet implements SQLResultSet {
                              String table,
                              Block header,
                              CheckedIterator<DataResponse, SQLException> dataResponses) {
+        this(statement, cfg, db, table, header, dataResponses, null);
+    }
+
+    public TimeplusResultSet(TimeplusStatement statement,
+                             TimeplusConfig cfg,
+                             String db,
+                             String table,
+                             QueryResult queryResult) throws SQLException {
+        this(statement, cfg, db, table, queryResult.header(), queryResult.data(), queryResult);
+    }
+
+    private TimeplusResultSet(TimeplusStatement statement,
+                              TimeplusConfig cfg,
+                              String db,
+                              String table,
+                              Block header,
+                              CheckedIterator<DataResponse, SQLException> dataResponses,
+                              @Nullable QueryResult queryResult) {
         this.statement = statement;
         this.cfg = cfg;
         this.db = db;
         this.table = table;
         this.header = header;
         this.dataResponses = dataResponses;
+        this.queryResult = queryResult;
     }
 
     @Override
@@ -171,7 +208,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public boolean getBoolean(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).shortValue(currentRowNum) != 0;
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return false;
         }
@@ -181,7 +222,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public byte getByte(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).byteValue(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return 0;
         }
@@ -190,7 +235,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public short getShort(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).shortValue(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return 0;
         }
@@ -199,7 +248,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public int getInt(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).intValue(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return 0;
         }
@@ -208,7 +261,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public long getLong(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).longValue(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return 0;
         }
@@ -217,7 +274,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public float getFloat(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).floatValue(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return 0;
         }
@@ -226,7 +287,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public double getDouble(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof IPrimitiveColumn) {
+            return ((IPrimitiveColumn) column).doubleValue(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return 0;
         }
@@ -235,7 +300,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public Timestamp getTimestamp(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnDateTime) {
+            return ((ColumnDateTime) column).timestamp(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return null;
         }
@@ -255,7 +324,11 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public Date getDate(int position) throws SQLException {
-        LocalDate date = (LocalDate) getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnDate) {
+            return ((ColumnDate) column).date(currentRowNum);
+        }
+        LocalDate date = (LocalDate) column.value(currentRowNum);
         if (date == null)
             return null;
         return Date.valueOf(date);
@@ -285,7 +358,14 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public byte[] getBytes(int position) throws SQLException {
-        Object data = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnString && isConnectionCharset(((ColumnString) column).charset())) {
+            return ((ColumnString) column).bytes(currentRowNum);
+        }
+        if (column instanceof ColumnFixedBinary && isConnectionCharset(((ColumnFixedBinary) column).charset())) {
+            return ((ColumnFixedBinary) column).bytes(currentRowNum);
+        }
+        Object data = column.value(currentRowNum);
         if (data == null) {
             return null;
         }
@@ -295,6 +375,75 @@ public class TimeplusResultSet implements SQLResultSet {
         throw new TimeplusSQLException(-1, "Currently not support getBytes from class: " + data.getClass());
     }
 
+    /**
+     * Copy the bytes of a string, fixed_string, uuid or ipv6 column into {@code dst} without creating an object or
+     * an array, uuid and ipv6 values are copied as received.
+     *
+     * @return the number of bytes copied, or -1 for SQL NULL
+     */
+    public int getBytes(int position, ByteBuffer dst) throws SQLException {
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnFixedBinary && isConnectionCharset(((ColumnFixedBinary) column).charset())) {
+            ColumnFixedBinary binaries = (ColumnFixedBinary) column;
+            Validate.isTrue(dst.remaining() >= binaries.width(),
+                    "Buffer remaining " + dst.remaining() + " is less than the value length " + binaries.width());
+            binaries.copyTo(currentRowNum, dst);
+            return binaries.width();
+        }
+        ByteBuffer bytes;
+        if (column instanceof ColumnString && isConnectionCharset(((ColumnString) column).charset())) {
+            bytes = ((ColumnString) column).slice(currentRowNum);
+        } else {
+            byte[] data = getBytes(position);
+            if (data == null) {
+                return -1;
+            }
+            bytes = ByteBuffer.wrap(data);
+        }
+        int length = bytes.remaining();
+        Validate.isTrue(dst.remaining() >= length,
+                "Buffer remaining " + dst.remaining() + " is less than the value length " + length);
+        dst.put(bytes);
+        return length;
+    }
+
+    /**
+     * Read the current value of a uuid column into {@code bits} as its most and least significant bits, without
+     * creating a UUID.
+     *
+     * @return false, leaving {@code bits} untouched, for SQL NULL
+     */
+    public boolean getUUIDBits(int position, long[] bits) throws SQLException {
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnFixedBinary && column.type() instanceof DataTypeUUID) {
+            bits[0] = ((ColumnFixedBinary) column).mostSignificantBits(currentRowNum);
+            bits[1] = ((ColumnFixedBinary) column).leastSignificantBits(currentRowNum);
+            return true;
+        }
+        Object data = column.value(currentRowNum);
+        if (data == null) {
+            return false;
+        }
+        if (!(data instanceof UUID)) {
+            throw new SQLException("Column " + position + " of " + data.getClass().getName() + " is not a uuid");
+        }
+        bits[0] = ((UUID) data).getMostSignificantBits();
+        bits[1] = ((UUID) data).getLeastSignificantBits();
+        return true;
+    }
+
+    /**
+     * Index of the current value into the dictionary of a low_cardinality column, see
+     * {@link ColumnLowCardinality#dictionaryIndex(int)}. Indexes are only comparable within a block.
+     */
+    public int getDictionaryIndex(int position) throws SQLException {
+        IColumn column = getInternalColumn(position);
+        if (!(column instanceof ColumnLowCardinality) || ((ColumnLowCardinality) column).dictionary() == null) {
+            throw new SQLException("Column " + position + " is not of type low_cardinality.");
+        }
+        return ((ColumnLowCardinality) column).dictionaryIndex(currentRowNum);
+    }
+
     @Override
     public URL getURL(int position) throws SQLException {
         String data = this.getString(position);
@@ -316,7 +465,14 @@ public class TimeplusResultSet implements SQLResultSet {
 
     @Override
     public Object getObject(int position) throws SQLException {
-        Object obj = getInternalObject(position);
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnDateTime) {
+            return ((ColumnDateTime) column).timestamp(currentRowNum);
+        }
+        if (column instanceof ColumnDate) {
+            return ((ColumnDate) column).date(currentRowNum);
+        }
+        Object obj = column.value(currentRowNum);
         if (obj == null) {
             return null;
         }
@@ -333,13 +489,71 @@ public class TimeplusResultSet implements SQLResultSet {
         return obj;
     }
 
+    /**
+     * Besides the types of {@link #getObject(int)}, temporal columns are read as {@link Instant},
+     * {@link LocalDateTime}, {@link ZonedDateTime}, {@link OffsetDateTime} and {@link LocalDate}.
+     */
+    @Override
+    public <T> T getObject(int position, Class<T> type) throws SQLException {
+        IColumn column = getValueColumn(position);
+        if (column instanceof ColumnDateTime) {
+            ColumnDateTime dateTimes = (ColumnDateTime) column;
+            if (type == Instant.class)
+                return type.cast(dateTimes.instant(currentRowNum));
+            if (type == LocalDateTime.class)
+                return type.cast(dateTimes.localDateTime(currentRowNum));
+            if (type == ZonedDateTime.class)
+                return type.cast(dateTimes.value(currentRowNum));
+            if (type == OffsetDateTime.class)
+                return type.cast(dateTimes.value(currentRowNum).toOffsetDateTime());
+        }
+        if (column instanceof ColumnDate && type == LocalDate.class) {
+            return type.cast(column.value(currentRowNum));
+        }
+        Object obj = getObject(position);
+        if (obj == null || type.isInstance(obj)) {
+            return type.cast(obj);
+        }
+        throw new SQLException("Column " + position + " of " + obj.getClass().getName()
+                + " cannot be read as " + type.getName());
+    }
+
+    @Override
+    public <T> T getObject(String name, Class<T> type) throws SQLException {
+        return this.getObject(this.findColumn(name), type);
+    }
+
     private Object getInternalObject(int position) throws SQLException {
+        return getInternalColumn(position).value(currentRowNum);
+    }
+
+    // the bytes of a string or fixed_string column are those of getString().getBytes(cfg.charset()) only when the
+    // column was decoded with the charset of the connection, uuid and ipv6 values have no charset
+    private boolean isConnectionCharset(@Nullable Charset charset) {
+        return charset == null || charset.equals(cfg.charset());
+    }
+
+    // a nullable column read from a block hands out its nested column for the non null rows, so the typed
+    // getters reach e.g. the unboxed values behind it; null rows keep the nullable column whose value is null
+    private IColumn getValueColumn(int position) throws SQLException {
+        IColumn column = getInternalColumn(position);
+        if (column instanceof ColumnNullable) {
+            IColumn nested = ((ColumnNullable) column).nested();
+            if (nested != null && !column.isNull(currentRowNum)) {
+                return nested;
+            }
+        }
+        return column;
+    }
+
+    // the value of the current row is read from the returned column by the caller
+    private IColumn getInternalColumn(int position) throws SQLException {
         LOG.trace("get object at row: {}, column position: {} from block with column count: {}, row count: {}",
                 currentRowNum, position, currentBlock.columnCnt(), currentBlock.rowCnt());
         Validate.isTrue(currentRowNum >= 0 && currentRowNum < currentBlock.rowCnt(),
                 "No row information was obtained. You must call ResultSet.next() before that.");
-        IColumn column = (lastFetchBlock = currentBlock).getColumn((lastFetchColumnIdx = position - 1));
-        return column.value((lastFetchRowIdx = currentRowNum));
+        lastFetchRowIdx = currentRowNum;
+        return (lastFetchBlock = currentBlock).getColumn((lastFetchColumnIdx = position - 1));
     }
 
     @Override
@@ -400,7 +614,8 @@ public class TimeplusResultSet implements SQLResultSet {
         Validate.isTrue(lastFetchBlock != null, "Please call Result.next()");
         Validate.isTrue(lastFetchColumnIdx >= 0, "Please call Result.getXXX()");
         Validate.isTrue(lastFetchRowIdx >= 0 && lastFetchRowIdx < lastFetchBlock.rowCnt(), "Please call Result.next()");
-        return lastFetchBlock.getColumn(lastFetchColumnIdx).value(lastFetchRowIdx) == null;
+        IColumn column = lastFetchBlock.getColumn(lastFetchColumnIdx);
+        return column.isNull(lastFetchRowIdx);
     }
 
     @Override
@@ -445,6 +660,9 @@ public class TimeplusResultSet implements SQLResultSet {
         //  1. if completed, just set isClosed = true
         //  2. if not, cancel query and consume the rest responses
         LOG.debug("close ResultSet");
+        if (!isClosed && queryResult != null) {
+            queryResult.close();
+        }
         this.isClosed = true;
     }
 
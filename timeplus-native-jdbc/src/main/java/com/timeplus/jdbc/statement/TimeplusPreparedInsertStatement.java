@@ -78,6 +78,8 @@ import com.timeplus.misc.BytesCharSeq;
 import com.timeplus.misc.DateTimeUtil;
 import com.timeplus.misc.ExceptionUtil;
 import com.timeplus.misc.Validate;
+import com.timeplus.settings.TimeplusConfig;
+import com.timeplus.stream.InsertBlockSender;
 import com.timeplus.stream.ValuesWithParametersNativeInputFormat;
 
 public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
@@ -108,6 +110,12 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
     private final String insertQuery;
     private boolean blockInit;
 
+    // with `insert_block_rows`, filled blocks are sent by a background thread while the next one is filled
+    private final int insertBlockRows;
+    private final int insertBlocksInFlight;
+    private InsertBlockSender sender;
+    private boolean blocksSent;
+
     public TimeplusPreparedInsertStatement(int posOfData,
                                            String fullQuery,
                                            TimeplusConnection conn,
@@ -117,6 +125,9 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
         this.posOfData = posOfData;
         this.fullQuery = fullQuery;
         this.insertQuery = fullQuery.substring(0, posOfData);
+        TimeplusConfig cfg = conn.cfg();
+        this.insertBlockRows = cfg.insertBlockRows();
+        this.insertBlocksInFlight = cfg.insertBlocksInFlight();
 
         initBlockIfPossible();
     }
@@ -138,7 +149,7 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
     @Override
     public int executeUpdate() throws SQLException {
         addParameters();
-        int result = connection.sendInsertRequest(block);
+        int result = sendInsertRequest();
         this.blockInit = false;
         this.block.cleanup();
         return result;
@@ -153,6 +164,9 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
     @Override
     public void addBatch() throws SQLException {
         addParameters();
+        if (insertBlockRows > 0 && block.rowCnt() >= insertBlockRows) {
+            sendBlockAhead();
+        }
     }
 
     @Override
@@ -161,7 +175,7 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
 
     @Override
     public int[] executeBatch() throws SQLException {
-        int rows = connection.sendInsertRequest(block);
+        int rows = sendInsertRequest();
         int[] result = new int[rows];
         Arrays.fill(result, 1);
         clearBatch();
@@ -172,10 +186,22 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
 
     @Override
     public void close() throws SQLException {
-        if (blockInit) {
-            // Empty insert when close.
-            this.connection.sendInsertRequest(new Block());
-            this.blockInit = false;
+        try {
+            if (blockInit && blocksSent) {
+                // complete the insert with the blocks already sent
+                this.blocksSent = false;
+                finishBlocksAhead();
+                this.connection.endInsertRequest();
+                this.blockInit = false;
+            } else if (blockInit) {
+                // Empty insert when close.
+                this.connection.sendInsertRequest(new Block());
+                this.blockInit = false;
+            }
+        } finally {
+            if (sender != null) {
+                sender.close();
+            }
         }
         // clean up block on close
         this.block.cleanup();
@@ -221,6 +247,54 @@ public class TimeplusPreparedInsertStatement extends AbstractPreparedStatement {
         });
     }
 
+    private void sendBlockAhead() throws SQLException {
+        if (sender == null) {
+            sender = new InsertBlockSender(connection::sendInsertData, insertBlocksInFlight).start();
+        }
+        Block filled = block;
+        this.block = filled.emptyCopy();
+        this.blocksSent = true;
+        sendAhead(filled);
+    }
+
+    private int sendInsertRequest() throws SQLException {
+        if (!blocksSent) {
+            return connection.sendInsertRequest(block);
+        }
+        this.blocksSent = false;
+        if (block.rowCnt() > 0) {
+            sendAhead(block);
+        }
+        long rows = finishBlocksAhead();
+        connection.endInsertRequest();
+        return (int) rows;
+    }
+
+    private void sendAhead(Block filled) throws SQLException {
+        try {
+            sender.send(filled);
+        } catch (SQLException | RuntimeException ex) {
+            abortInsert();
+            throw ex;
+        }
+    }
+
+    private long finishBlocksAhead() throws SQLException {
+        try {
+            return sender.finish();
+        } catch (SQLException | RuntimeException ex) {
+            abortInsert();
+            throw ex;
+        }
+    }
+
+    // a block sent ahead failed, the INSERT must not be ended with the blocks sent before it
+    private void abortInsert() {
+        this.blocksSent = false;
+        this.blockInit = false;
+        connection.abortInsertRequest();
+    }
+
     private void addParameters() throws SQLException {
         block.appendRow();
     }
@@ -99,7 +99,7 @@ public class TimeplusStatement implements SQLStatement {
                 ((TimeplusQueryResult) result).setProgressListener(this.progressListener);
             }
 
-            lastResultSet = new TimeplusResultSet(this, cfg, db, table, result.header(), result.data());
+            lastResultSet = new TimeplusResultSet(this, cfg, db, table, result);
             return 0;
         });
     }
@@ -98,9 +98,16 @@ public class TimeplusCityHash {
     }
 
 
-    private static long[] weakHashLen32WithSeeds(
+    // offsets of the two 128-bit halves of the hash state, the result ends up in the first one
+    private static final int V = 0;
+    private static final int W = 2;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static void weakHashLen32WithSeeds(
             long w, long x, long y, long z,
-            long a, long b) {
+            long a, long b,
+            long[] state, int off) {
 
         a += w;
         b = rotate(b + a + z, 21);
@@ -108,21 +115,24 @@ public class TimeplusCityHash {
         a += x;
         a += y;
         b += rotate(a, 44);
-        return new long[]{a + z, b + c};
+        state[off] = a + z;
+        state[off + 1] = b + c;
     }
 
-    private static long[] weakHashLen32WithSeeds(byte[] s, int pos, long a, long b) {
-        return weakHashLen32WithSeeds(
+    private static void weakHashLen32WithSeeds(byte[] s, int pos, long a, long b, long[] state, int off) {
+        weakHashLen32WithSeeds(
                 fetch64(s, pos + 0),
                 fetch64(s, pos + 8),
                 fetch64(s, pos + 16),
                 fetch64(s, pos + 24),
                 a,
-                b
+                b,
+                state,
+                off
         );
     }
 
-    private static long[] cityMurmur(byte[] s, int pos, int len, long seed0, long seed1) {
+    private static void cityMurmur(byte[] s, int pos, int len, long seed0, long seed1, long[] state) {
 
         long a = seed0;
         long b = seed1;
@@ -155,34 +165,35 @@ public class TimeplusCityHash {
         a = hashLen16(a, c);
         b = hashLen16(d, b);
 
-        return new long[]{a ^ b, hashLen16(b, a)};
+        state[V] = a ^ b;
+        state[V + 1] = hashLen16(b, a);
     }
 
-    private static long[] cityHash128WithSeed(byte[] s, int pos, int len, long seed0, long seed1) {
+    private static void cityHash128WithSeed(byte[] s, int pos, int len, long seed0, long seed1, long[] state) {
         if (len < 128) {
-            return cityMurmur(s, pos, len, seed0, seed1);
+            cityMurmur(s, pos, len, seed0, seed1, state);
+            return;
         }
 
-        long[] v = new long[2], w = new long[2];
         long x = seed0;
         long y = seed1;
         long z = k1 * len;
-        v[0] = rotate(y ^ k1, 49) * k1 + fetch64(s, pos);
-        v[1] = rotate(v[0], 42) * k1 + fetch64(s, pos + 8);
-        w[0] = rotate(y + z, 35) * k1 + x;
-        w[1] = rotate(x + fetch64(s, pos + 88), 53) * k1;
+        state[V] = rotate(y ^ k1, 49) * k1 + fetch64(s, pos);
+        state[V + 1] = rotate(state[V], 42) * k1 + fetch64(s, pos + 8);
+        state[W] = rotate(y + z, 35) * k1 + x;
+        state[W + 1] = rotate(x + fetch64(s, pos + 88), 53) * k1;
 
         // This is the same inner loop as CityHash64(), manually unrolled.
         do {
-            x = rotate(x + y + v[0] + fetch64(s, pos + 16), 37) * k1;
-            y = rotate(y + v[1] + fetch64(s, pos + 48), 42) * k1;
+            x = rotate(x + y + state[V] + fetch64(s, pos + 16), 37) * k1;
+            y = rotate(y + state[V + 1] + fetch64(s, pos + 48), 42) * k1;
 
-            x ^= w[1];
-            y ^= v[0];
+            x ^= state[W + 1];
+            y ^= state[V];
 
-            z = rotate(z ^ w[0], 33);
-            v = weakHashLen32WithSeeds(s, pos, v[1] * k1, x + w[0]);
-            w = weakHashLen32WithSeeds(s, pos + 32, z + w[1], y);
+            z = rotate(z ^ state[W], 33);
+            weakHashLen32WithSeeds(s, pos, state[V + 1] * k1, x + state[W], state, V);
+            weakHashLen32WithSeeds(s, pos + 32, z + state[W + 1], y, state, W);
 
             {
                 long swap = z;
@@ -190,13 +201,13 @@ public class TimeplusCityHash {
                 x = swap;
             }
             pos += 64;
-            x = rotate(x + y + v[0] + fetch64(s, pos + 16), 37) * k1;
-            y = rotate(y + v[1] + fetch64(s, pos + 48), 42) * k1;
-            x ^= w[1];
-            y ^= v[0];
-            z = rotate(z ^ w[0], 33);
-            v = weakHashLen32WithSeeds(s, pos, v[1] * k1, x + w[0]);
-            w = weakHashLen32WithSeeds(s, pos + 32, z + w[1], y);
+            x = rotate(x + y + state[V] + fetch64(s, pos + 16), 37) * k1;
+            y = rotate(y + state[V + 1] + fetch64(s, pos + 48), 42) * k1;
+            x ^= state[W + 1];
+            y ^= state[V];
+            z = rotate(z ^ state[W], 33);
+            weakHashLen32WithSeeds(s, pos, state[V + 1] * k1, x + state[W], state, V);
+            weakHashLen32WithSeeds(s, pos + 32, z + state[W + 1], y, state, W);
             {
                 long swap = z;
                 z = x;
@@ -206,48 +217,62 @@ public class TimeplusCityHash {
             len -= 128;
         } while (len >= 128);
 
-        y += rotate(w[0], 37) * k0 + z;
-        x += rotate(v[0] + z, 49) * k0;
+        y += rotate(state[W], 37) * k0 + z;
+        x += rotate(state[V] + z, 49) * k0;
 
         // If 0 < len < 128, hash up to 4 chunks of 32 bytes each from the end of s.
         for (int tail_done = 0; tail_done < len; ) {
             tail_done += 32;
-            y = rotate(y - x, 42) * k0 + v[1];
-            w[0] += fetch64(s, pos + len - tail_done + 16);
-            x = rotate(x, 49) * k0 + w[0];
-            w[0] += v[0];
-            v = weakHashLen32WithSeeds(s, pos + len - tail_done, v[0], v[1]);
+            y = rotate(y - x, 42) * k0 + state[V + 1];
+            state[W] += fetch64(s, pos + len - tail_done + 16);
+            x = rotate(x, 49) * k0 + state[W];
+            state[W] += state[V];
+            weakHashLen32WithSeeds(s, pos + len - tail_done, state[V], state[V + 1], state, V);
         }
 
         // At this point our 48 bytes of state should contain more than
         // enough information for a strong 128-bit hash.  We use two
         // different 48-byte-to-8-byte hashes to get a 16-byte final result.
 
-        x = hashLen16(x, v[0]);
-        y = hashLen16(y, w[0]);
+        x = hashLen16(x, state[V]);
+        y = hashLen16(y, state[W]);
 
-        return new long[]{
-                hashLen16(x + v[1], w[1]) + y,
-                hashLen16(x + w[1], y + v[1])
-        };
+        long h0 = hashLen16(x + state[V + 1], state[W + 1]) + y;
+        long h1 = hashLen16(x + state[W + 1], y + state[V + 1]);
+        state[V] = h0;
+        state[V + 1] = h1;
     }
 
     public static long[] cityHash128(byte[] s, int pos, int len) {
+        long[] state = new long[4];
+        cityHash128(s, pos, len, state);
+        return new long[]{state[0], state[1]};
+    }
+
+    /**
+     * Allocation free variant of {@link #cityHash128(byte[], int, int)}, the hash is kept in a caller owned
+     * state of at least 4 longs and left in its first two elements.
+     */
+    public static void cityHash128(byte[] s, int pos, int len, long[] state) {
 
         if (len >= 16) {
-            return cityHash128WithSeed(
+            cityHash128WithSeed(
                     s, pos + 16,
                     len - 16,
                     fetch64(s, pos) ^ k3,
-                    fetch64(s, pos + 8));
+                    fetch64(s, pos + 8),
+                    state);
+            return;
         }
         if (len >= 8) {
-            return cityHash128WithSeed(
-                    new byte[0], 0, 0,
+            cityHash128WithSeed(
+                    EMPTY, 0, 0,
                     fetch64(s, pos) ^ (len * k0),
-                    fetch64(s, pos + len - 8) ^ k1);
+                    fetch64(s, pos + len - 8) ^ k1,
+                    state);
+            return;
         }
-        return cityHash128WithSeed(s, pos, len, k0, k1);
+        cityHash128WithSeed(s, pos, len, k0, k1, state);
     }
 
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.misc;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Offset of a zone at an epoch second. The span between the transitions around the last lookup is kept, the values
+ * of a temporal column are mostly close to each other, so they rarely search the zone rules again.
+ * Not thread safe.
+ */
+public final class ZoneOffsetCache {
+
+    private final ZoneRules rules;
+    // offset is valid for [validFrom, validUntil)
+    private long validFrom = Long.MAX_VALUE;
+    private long validUntil = Long.MIN_VALUE;
+    private ZoneOffset offset;
+
+    public ZoneOffsetCache(ZoneId zone) {
+        this.rules = zone.getRules();
+    }
+
+    public ZoneOffset offset(long epochSecond) {
+        if (epochSecond >= validFrom && epochSecond < validUntil) {
+            return offset;
+        }
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        offset = rules.getOffset(instant);
+        // previousTransition is exclusive, the one before the next second may be at epochSecond itself
+        ZoneOffsetTransition previous = epochSecond == Long.MAX_VALUE ? null
+                : rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        validFrom = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        validUntil = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+        return offset;
+    }
+}
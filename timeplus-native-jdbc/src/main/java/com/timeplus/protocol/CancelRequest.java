@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.protocol;
+
+import com.timeplus.serde.BinarySerializer;
+
+import java.io.IOException;
+
+public class CancelRequest implements Request {
+
+    public static final CancelRequest INSTANCE = new CancelRequest();
+
+    @Override
+    public ProtoType type() {
+        return ProtoType.REQUEST_CANCEL;
+    }
+
+    @Override
+    public void writeImpl(BinarySerializer serializer) throws IOException {
+        // Nothing
+    }
+}
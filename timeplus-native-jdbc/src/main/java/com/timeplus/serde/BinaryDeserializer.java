@@ -16,22 +16,30 @@ package com.timeplus.serde;
 
 import com.timeplus.buffer.BuffedReader;
 import com.timeplus.buffer.CompressedBuffedReader;
+import com.timeplus.buffer.CompressionMethod;
 import com.timeplus.misc.Switcher;
 
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 public class BinaryDeserializer {
 
     private final Switcher<BuffedReader> switcher;
     private final boolean enableCompress;
+    private final CompressedBuffedReader compressedReader;
 
     public BinaryDeserializer(BuffedReader buffedReader, boolean enableCompress) {
-        this.enableCompress = enableCompress;
-        BuffedReader compressedReader = null;
-        if (enableCompress) {
-            compressedReader = new CompressedBuffedReader(buffedReader);
-        }
+        this(buffedReader, enableCompress ? CompressionMethod.LZ4 : CompressionMethod.NONE);
+    }
+
+    /**
+     * The reader decodes frames of any method, the server picks it from the `network_compression_method` setting.
+     */
+    public BinaryDeserializer(BuffedReader buffedReader, CompressionMethod method) {
+        this.enableCompress = method != CompressionMethod.NONE;
+        this.compressedReader = enableCompress ? new CompressedBuffedReader(buffedReader) : null;
         switcher = new Switcher<>(compressedReader, buffedReader);
     }
 
@@ -54,36 +62,16 @@ public class BinaryDeserializer {
         throw new IOException("Malformed VarInt: too long");
     }
 
-    @SuppressWarnings("PointlessBitwiseExpression")
     public short readShort() throws IOException {
-        // @formatter:off
-        return (short) (((switcher.get().readBinary() & 0xFF) << 0)
-                      + ((switcher.get().readBinary() & 0xFF) << 8));
-        // @formatter:on
+        return switcher.get().window(Short.BYTES).getShort();
     }
 
-    @SuppressWarnings("PointlessBitwiseExpression")
     public int readInt() throws IOException {
-        // @formatter:off
-        return ((switcher.get().readBinary() & 0xFF) << 0)
-             + ((switcher.get().readBinary() & 0xFF) << 8)
-             + ((switcher.get().readBinary() & 0xFF) << 16)
-             + ((switcher.get().readBinary() & 0xFF) << 24);
-        // @formatter:on
+        return switcher.get().window(Integer.BYTES).getInt();
     }
 
-    @SuppressWarnings("PointlessBitwiseExpression")
     public long readLong() throws IOException {
-        // @formatter:off
-        return ((switcher.get().readBinary() & 0xFFL) << 0)
-             + ((switcher.get().readBinary() & 0xFFL) << 8)
-             + ((switcher.get().readBinary() & 0xFFL) << 16)
-             + ((switcher.get().readBinary() & 0xFFL) << 24)
-             + ((switcher.get().readBinary() & 0xFFL) << 32)
-             + ((switcher.get().readBinary() & 0xFFL) << 40)
-             + ((switcher.get().readBinary() & 0xFFL) << 48)
-             + ((switcher.get().readBinary() & 0xFFL) << 56);
-        // @formatter:on
+        return switcher.get().window(Long.BYTES).getLong();
     }
 
     public boolean readBoolean() throws IOException {
@@ -105,6 +93,13 @@ public class BinaryDeserializer {
         return (byte) switcher.get().readBinary();
     }
 
+    /**
+     * Running total of bytes decompressed from data blocks, always 0 without compression.
+     */
+    public long decompressedBytes() {
+        return compressedReader == null ? 0 : compressedReader.decompressedBytes();
+    }
+
     public void maybeEnableCompressed() {
         if (enableCompress) {
             switcher.select(false);
@@ -117,31 +112,76 @@ public class BinaryDeserializer {
         }
     }
 
-    @SuppressWarnings("PointlessBitwiseExpression")
     public float readFloat() throws IOException {
-        // @formatter:off
-        return Float.intBitsToFloat(
-               ((switcher.get().readBinary() & 0xFF) << 0)
-             + ((switcher.get().readBinary() & 0xFF) << 8)
-             + ((switcher.get().readBinary() & 0xFF) << 16)
-             + ((switcher.get().readBinary()       ) << 24));
-        // @formatter:on
+        return switcher.get().window(Float.BYTES).getFloat();
     }
 
-    @SuppressWarnings("PointlessBitwiseExpression")
     public double readDouble() throws IOException {
-        // @formatter:off
-        return Double.longBitsToDouble(
-                ((switcher.get().readBinary() & 0xFFL) << 0 )
-              + ((switcher.get().readBinary() & 0xFFL) << 8 )
-              + ((switcher.get().readBinary() & 0xFFL) << 16)
-              + ((switcher.get().readBinary() & 0xFFL) << 24)
-              + ((switcher.get().readBinary() & 0xFFL) << 32)
-              + ((switcher.get().readBinary() & 0xFFL) << 40)
-              + ((switcher.get().readBinary() & 0xFFL) << 48)
-              + ((switcher.get().readBinary() & 0xFFL) << 56)
-        );
-        // @formatter:on
+        return switcher.get().window(Double.BYTES).getDouble();
+    }
+
+    public void readBytes(byte[] dst, int offset, int length) throws IOException {
+        switcher.get().readBinary(dst, offset, length);
+    }
+
+    /*
+     * The bulk reads below convert as many values as the reader's window holds at once, a value split between
+     * two frames or socket reads is joined by the window of the next round.
+     */
+
+    public void readShorts(short[] dst, int n) throws IOException {
+        for (int i = 0; i < n; ) {
+            ByteBuffer window = switcher.get().window(Short.BYTES);
+            int count = Math.min(n - i, window.remaining() / Short.BYTES);
+            window.asShortBuffer().get(dst, i, count);
+            skip(window, count * Short.BYTES);
+            i += count;
+        }
+    }
+
+    public void readInts(int[] dst, int n) throws IOException {
+        for (int i = 0; i < n; ) {
+            ByteBuffer window = switcher.get().window(Integer.BYTES);
+            int count = Math.min(n - i, window.remaining() / Integer.BYTES);
+            window.asIntBuffer().get(dst, i, count);
+            skip(window, count * Integer.BYTES);
+            i += count;
+        }
+    }
+
+    public void readLongs(long[] dst, int n) throws IOException {
+        for (int i = 0; i < n; ) {
+            ByteBuffer window = switcher.get().window(Long.BYTES);
+            int count = Math.min(n - i, window.remaining() / Long.BYTES);
+            window.asLongBuffer().get(dst, i, count);
+            skip(window, count * Long.BYTES);
+            i += count;
+        }
+    }
+
+    public void readFloats(float[] dst, int n) throws IOException {
+        for (int i = 0; i < n; ) {
+            ByteBuffer window = switcher.get().window(Float.BYTES);
+            int count = Math.min(n - i, window.remaining() / Float.BYTES);
+            window.asFloatBuffer().get(dst, i, count);
+            skip(window, count * Float.BYTES);
+            i += count;
+        }
+    }
+
+    public void readDoubles(double[] dst, int n) throws IOException {
+        for (int i = 0; i < n; ) {
+            ByteBuffer window = switcher.get().window(Double.BYTES);
+            int count = Math.min(n - i, window.remaining() / Double.BYTES);
+            window.asDoubleBuffer().get(dst, i, count);
+            skip(window, count * Double.BYTES);
+            i += count;
+        }
+    }
+
+    private static void skip(ByteBuffer window, int bytes) {
+        // upcast is necessary, see ByteArrayWriter#reset
+        ((Buffer) window).position(window.position() + bytes);
     }
 
     public byte[] readBytes(int size) throws IOException {
@@ -16,26 +16,46 @@ package com.timeplus.serde;
 
 import com.timeplus.buffer.BuffedWriter;
 import com.timeplus.buffer.CompressedBuffedWriter;
+import com.timeplus.buffer.CompressionMethod;
 import com.timeplus.misc.Switcher;
 import com.timeplus.settings.TimeplusDefines;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class BinarySerializer {
 
+    // bulk writes encode up to CHUNK_BYTES at once before handing them to the writer
+    private static final int CHUNK_BYTES = 8 * 1024;
+
     private final Switcher<BuffedWriter> switcher;
     private final boolean enableCompress;
+    private final CompressedBuffedWriter compressWriter;
     private final byte[] writeBuffer;
+    private ByteBuffer chunk;
     
     public BinarySerializer(BuffedWriter writer, boolean enableCompress) {
-        this.enableCompress = enableCompress;
-        BuffedWriter compressWriter = null;
-        if (enableCompress) {
-            compressWriter = new CompressedBuffedWriter(TimeplusDefines.SOCKET_SEND_BUFFER_BYTES, writer);
-        }
+        this(writer, enableCompress ? CompressionMethod.LZ4 : CompressionMethod.NONE);
+    }
+
+    public BinarySerializer(BuffedWriter writer, CompressionMethod method) {
+        this(writer, method, 0, null);
+    }
+
+    public BinarySerializer(BuffedWriter writer, CompressionMethod method, float minCompressionRatio,
+                            @Nullable ForkJoinPool compressionPool) {
+        this.enableCompress = method != CompressionMethod.NONE;
+        this.compressWriter = enableCompress
+                ? new CompressedBuffedWriter(TimeplusDefines.SOCKET_SEND_BUFFER_BYTES, writer, method,
+                minCompressionRatio, compressionPool)
+                : null;
         switcher = new Switcher<>(compressWriter, writer);
         // max num of byte is 32 for Int256
         writeBuffer = new byte[32];
@@ -139,6 +159,14 @@ public class BinarySerializer {
         switcher.get().flushToTarget(force);
     }
 
+    public long compressedFrames() {
+        return compressWriter == null ? 0 : compressWriter.compressedFrames();
+    }
+
+    public long skippedCompressionFrames() {
+        return compressWriter == null ? 0 : compressWriter.skippedFrames();
+    }
+
     public void maybeEnableCompressed() {
         if (enableCompress) {
             switcher.select(false);
@@ -173,6 +201,64 @@ public class BinarySerializer {
         // @formatter:on
     }
 
+    public void writeShorts(short[] values, int offset, int length) throws IOException {
+        ByteBuffer chunk = chunk();
+        int perChunk = CHUNK_BYTES / Short.BYTES;
+        for (int i = 0; i < length; i += perChunk) {
+            int count = Math.min(perChunk, length - i);
+            chunk.asShortBuffer().put(values, offset + i, count);
+            switcher.get().writeBinary(chunk.array(), 0, count * Short.BYTES);
+        }
+    }
+
+    public void writeInts(int[] values, int offset, int length) throws IOException {
+        ByteBuffer chunk = chunk();
+        int perChunk = CHUNK_BYTES / Integer.BYTES;
+        for (int i = 0; i < length; i += perChunk) {
+            int count = Math.min(perChunk, length - i);
+            chunk.asIntBuffer().put(values, offset + i, count);
+            switcher.get().writeBinary(chunk.array(), 0, count * Integer.BYTES);
+        }
+    }
+
+    public void writeLongs(long[] values, int offset, int length) throws IOException {
+        ByteBuffer chunk = chunk();
+        int perChunk = CHUNK_BYTES / Long.BYTES;
+        for (int i = 0; i < length; i += perChunk) {
+            int count = Math.min(perChunk, length - i);
+            chunk.asLongBuffer().put(values, offset + i, count);
+            switcher.get().writeBinary(chunk.array(), 0, count * Long.BYTES);
+        }
+    }
+
+    public void writeFloats(float[] values, int offset, int length) throws IOException {
+        ByteBuffer chunk = chunk();
+        int perChunk = CHUNK_BYTES / Float.BYTES;
+        for (int i = 0; i < length; i += perChunk) {
+            int count = Math.min(perChunk, length - i);
+            chunk.asFloatBuffer().put(values, offset + i, count);
+            switcher.get().writeBinary(chunk.array(), 0, count * Float.BYTES);
+        }
+    }
+
+    public void writeDoubles(double[] values, int offset, int length) throws IOException {
+        ByteBuffer chunk = chunk();
+        int perChunk = CHUNK_BYTES / Double.BYTES;
+        for (int i = 0; i < length; i += perChunk) {
+            int count = Math.min(perChunk, length - i);
+            chunk.asDoubleBuffer().put(values, offset + i, count);
+            switcher.get().writeBinary(chunk.array(), 0, count * Double.BYTES);
+        }
+    }
+
+    // allocated on first use, most serializers (e.g. one per column buffer) never write in bulk
+    private ByteBuffer chunk() {
+        if (chunk == null) {
+            chunk = ByteBuffer.allocate(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunk;
+    }
+
     public void writeBytes(byte[] bytes) throws IOException {
         writeBytes(bytes, 0, bytes.length);
     }
@@ -180,4 +266,8 @@ public class BinarySerializer {
     public void writeBytes(byte[] bytes, int offset, int length) throws IOException {
         switcher.get().writeBinary(bytes, offset, length);
     }
+
+    public void writeBytes(List<ByteBuffer> buffers) throws IOException {
+        switcher.get().writeBinary(buffers);
+    }
 }
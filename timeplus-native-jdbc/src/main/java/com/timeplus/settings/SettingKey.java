@@ -335,6 +335,12 @@ public class SettingKey implements Serializable {
             .withDescription("Allows you to select the level of ZSTD compression.")
             .build();
 
+    public static SettingKey network_compression_method = SettingKey.builder()
+            .withName("network_compression_method")
+            .withType(SettingType.UTF8)
+            .withDescription("Allows you to select the method of data compression in writing.")
+            .build();
+
     public static SettingKey priority = SettingKey.builder()
             .withName("priority")
             .withType(SettingType.Int64)
@@ -841,6 +847,12 @@ public class SettingKey implements Serializable {
             .withDescription("Establish secure connection: True or False")
             .build();
 
+    public static SettingKey nio = SettingKey.builder()
+            .withName("nio")
+            .withType(SettingType.Bool)
+            .withDescription("Use non-blocking SocketChannel transport with pooled direct buffers: True or False")
+            .build();
+
     public static SettingKey sslMode = SettingKey.builder()
             .withName("ssl_mode")
             .withType(SettingType.UTF8)
@@ -875,6 +887,60 @@ public class SettingKey implements Serializable {
             .withType(SettingType.Bool)
             .build();
 
+    public static SettingKey compression_method = SettingKey.builder()
+            .withName("compression_method")
+            .withType(SettingType.UTF8)
+            .withDescription("Compression method of data blocks exchanged with the server: none, lz4 or zstd")
+            .build();
+
+    public static SettingKey compression_min_ratio = SettingKey.builder()
+            .withName("compression_min_ratio")
+            .withType(SettingType.Float32)
+            .withDescription("Data frames compressing worse than this ratio are sent uncompressed, 0 always compresses")
+            .build();
+
+    public static SettingKey compression_parallelism = SettingKey.builder()
+            .withName("compression_parallelism")
+            .withType(SettingType.Int32)
+            .withDescription("Number of threads compressing the frames of large data blocks concurrently, 0 compresses on the calling thread")
+            .build();
+
+    public static SettingKey read_ahead_blocks = SettingKey.builder()
+            .withName("read_ahead_blocks")
+            .withType(SettingType.Int32)
+            .withDescription("Max number of result blocks read and decoded ahead by a background thread, 0 reads them on demand")
+            .build();
+
+    public static SettingKey read_ahead_bytes = SettingKey.builder()
+            .withName("read_ahead_bytes")
+            .withType(SettingType.Int64)
+            .withDescription("Max decompressed bytes of the result blocks read ahead")
+            .build();
+
+    public static SettingKey lazy_decode = SettingKey.builder()
+            .withName("lazy_decode")
+            .withType(SettingType.Bool)
+            .withDescription("Keep the columns of result blocks encoded until the ResultSet first reads them")
+            .build();
+
+    public static SettingKey insert_block_rows = SettingKey.builder()
+            .withName("insert_block_rows")
+            .withType(SettingType.Int32)
+            .withDescription("Rows of a batch INSERT block handed to a sender thread while the next block is filled, 0 sends the whole batch on executeBatch")
+            .build();
+
+    public static SettingKey insert_blocks_in_flight = SettingKey.builder()
+            .withName("insert_blocks_in_flight")
+            .withType(SettingType.Int32)
+            .withDescription("Max number of filled INSERT blocks queued for or being sent by the sender thread")
+            .build();
+
+    public static SettingKey write_buffer_size = SettingKey.builder()
+            .withName("write_buffer_size")
+            .withType(SettingType.Int32)
+            .withDescription("Size in bytes of the client side buffer which coalesces writes before they are sent to the socket")
+            .build();
+
     public static SettingKey charset = SettingKey.builder()
             .withName("charset")
             .withType(SettingType.UTF8)
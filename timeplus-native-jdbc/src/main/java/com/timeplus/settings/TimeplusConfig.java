@@ -14,6 +14,7 @@
 
 package com.timeplus.settings;
 
+import com.timeplus.buffer.CompressionMethod;
 import com.timeplus.jdbc.TimeplusJdbcUrlParser;
 import com.timeplus.misc.CollectionUtil;
 import com.timeplus.misc.StrUtil;
@@ -45,13 +46,26 @@ public class TimeplusConfig implements Serializable {
     private final String charset; // use String because Charset is not serializable
     private final Map<SettingKey, Serializable> settings;
     private final boolean tcpKeepAlive;
+    private final int writeBufferSize;
+    private final String compressionMethod;
+    private final float compressionMinRatio;
+    private final int compressionParallelism;
+    private final int readAheadBlocks;
+    private final long readAheadBytes;
+    private final boolean lazyDecode;
+    private final int insertBlockRows;
+    private final int insertBlocksInFlight;
+    private final boolean nio;
     private final boolean ssl;
     private final String sslMode;
     private final String clientName;
 
     private TimeplusConfig(String host, int port, String database, String user, String password,
                            Duration queryTimeout, Duration connectTimeout, boolean tcpKeepAlive,
-                           boolean ssl, String sslMode, String charset, String clientName,
+                           int writeBufferSize, String compressionMethod,
+                           float compressionMinRatio, int compressionParallelism,
+                           int readAheadBlocks, long readAheadBytes, boolean lazyDecode,
+                           int insertBlockRows, int insertBlocksInFlight, boolean nio, boolean ssl, String sslMode, String charset, String clientName,
                            Map<SettingKey, Serializable> settings) {
         this.host = host;
         this.hosts = Arrays.asList(host.split(HOST_DELIMITER));
@@ -62,6 +76,16 @@ public class TimeplusConfig implements Serializable {
         this.queryTimeout = queryTimeout;
         this.connectTimeout = connectTimeout;
         this.tcpKeepAlive = tcpKeepAlive;
+        this.writeBufferSize = writeBufferSize;
+        this.compressionMethod = compressionMethod;
+        this.compressionMinRatio = compressionMinRatio;
+        this.compressionParallelism = compressionParallelism;
+        this.readAheadBlocks = readAheadBlocks;
+        this.readAheadBytes = readAheadBytes;
+        this.lazyDecode = lazyDecode;
+        this.insertBlockRows = insertBlockRows;
+        this.insertBlocksInFlight = insertBlocksInFlight;
+        this.nio = nio;
         this.ssl = ssl;
         this.sslMode = sslMode;
         this.charset = charset;
@@ -101,6 +125,10 @@ public class TimeplusConfig implements Serializable {
         return this.connectTimeout;
     }
 
+    public boolean nio() {
+        return this.nio;
+    }
+
     public boolean ssl() {
         return this.ssl;
     }
@@ -227,6 +255,42 @@ public class TimeplusConfig implements Serializable {
         return tcpKeepAlive;
     }
 
+    public int writeBufferSize() {
+        return writeBufferSize;
+    }
+
+    public String compressionMethod() {
+        return compressionMethod;
+    }
+
+    public float compressionMinRatio() {
+        return compressionMinRatio;
+    }
+
+    public int compressionParallelism() {
+        return compressionParallelism;
+    }
+
+    public int readAheadBlocks() {
+        return readAheadBlocks;
+    }
+
+    public long readAheadBytes() {
+        return readAheadBytes;
+    }
+
+    public boolean lazyDecode() {
+        return lazyDecode;
+    }
+
+    public int insertBlockRows() {
+        return insertBlockRows;
+    }
+
+    public int insertBlocksInFlight() {
+        return insertBlocksInFlight;
+    }
+
     public static final class Builder {
         private String host;
         private int port;
@@ -236,6 +300,16 @@ public class TimeplusConfig implements Serializable {
         private Duration connectTimeout;
         private Duration queryTimeout;
         private boolean tcpKeepAlive;
+        private int writeBufferSize;
+        private String compressionMethod;
+        private float compressionMinRatio;
+        private int compressionParallelism;
+        private int readAheadBlocks;
+        private long readAheadBytes;
+        private boolean lazyDecode;
+        private int insertBlockRows;
+        private int insertBlocksInFlight;
+        private boolean nio;
         private boolean ssl;
         private String sslMode;
         private Charset charset;
@@ -260,6 +334,16 @@ public class TimeplusConfig implements Serializable {
                     .queryTimeout(cfg.queryTimeout())
                     .charset(cfg.charset())
                     .tcpKeepAlive(cfg.tcpKeepAlive())
+                    .writeBufferSize(cfg.writeBufferSize())
+                    .compressionMethod(cfg.compressionMethod())
+                    .compressionMinRatio(cfg.compressionMinRatio())
+                    .compressionParallelism(cfg.compressionParallelism())
+                    .readAheadBlocks(cfg.readAheadBlocks())
+                    .readAheadBytes(cfg.readAheadBytes())
+                    .lazyDecode(cfg.lazyDecode())
+                    .insertBlockRows(cfg.insertBlockRows())
+                    .insertBlocksInFlight(cfg.insertBlocksInFlight())
+                    .nio(cfg.nio())
                     .ssl(cfg.ssl())
                     .sslMode(cfg.sslMode())
                     .clientName(cfg.clientName())
@@ -316,6 +400,56 @@ public class TimeplusConfig implements Serializable {
             return this;
         }
 
+        public Builder writeBufferSize(int writeBufferSize) {
+            this.withSetting(SettingKey.write_buffer_size, writeBufferSize);
+            return this;
+        }
+
+        public Builder compressionMethod(String compressionMethod) {
+            this.withSetting(SettingKey.compression_method, compressionMethod);
+            return this;
+        }
+
+        public Builder compressionMinRatio(float compressionMinRatio) {
+            this.withSetting(SettingKey.compression_min_ratio, compressionMinRatio);
+            return this;
+        }
+
+        public Builder compressionParallelism(int compressionParallelism) {
+            this.withSetting(SettingKey.compression_parallelism, compressionParallelism);
+            return this;
+        }
+
+        public Builder readAheadBlocks(int readAheadBlocks) {
+            this.withSetting(SettingKey.read_ahead_blocks, readAheadBlocks);
+            return this;
+        }
+
+        public Builder readAheadBytes(long readAheadBytes) {
+            this.withSetting(SettingKey.read_ahead_bytes, readAheadBytes);
+            return this;
+        }
+
+        public Builder lazyDecode(boolean lazyDecode) {
+            this.withSetting(SettingKey.lazy_decode, lazyDecode);
+            return this;
+        }
+
+        public Builder insertBlockRows(int insertBlockRows) {
+            this.withSetting(SettingKey.insert_block_rows, insertBlockRows);
+            return this;
+        }
+
+        public Builder insertBlocksInFlight(int insertBlocksInFlight) {
+            this.withSetting(SettingKey.insert_blocks_in_flight, insertBlocksInFlight);
+            return this;
+        }
+
+        public Builder nio(boolean nio) {
+            this.withSetting(SettingKey.nio, nio);
+            return this;
+        }
+
         public Builder ssl(boolean ssl) {
             this.withSetting(SettingKey.ssl, ssl);
             return this;
@@ -368,6 +502,18 @@ public class TimeplusConfig implements Serializable {
             this.connectTimeout = (Duration) this.settings.getOrDefault(SettingKey.connect_timeout, Duration.ZERO);
             this.queryTimeout = (Duration) this.settings.getOrDefault(SettingKey.query_timeout, Duration.ZERO);
             this.tcpKeepAlive = (boolean) this.settings.getOrDefault(SettingKey.tcp_keep_alive, false);
+            this.writeBufferSize = ((Number) this.settings.getOrDefault(SettingKey.write_buffer_size,
+                    TimeplusDefines.SOCKET_WRITE_BUFFER_BYTES)).intValue();
+            this.compressionMethod = (String) this.settings.getOrDefault(SettingKey.compression_method, "lz4");
+            this.compressionMinRatio = ((Number) this.settings.getOrDefault(SettingKey.compression_min_ratio, 0f)).floatValue();
+            this.compressionParallelism = ((Number) this.settings.getOrDefault(SettingKey.compression_parallelism, 0)).intValue();
+            this.readAheadBlocks = ((Number) this.settings.getOrDefault(SettingKey.read_ahead_blocks, 0)).intValue();
+            this.readAheadBytes = ((Number) this.settings.getOrDefault(SettingKey.read_ahead_bytes,
+                    TimeplusDefines.READ_AHEAD_BYTES)).longValue();
+            this.lazyDecode = (boolean) this.settings.getOrDefault(SettingKey.lazy_decode, false);
+            this.insertBlockRows = ((Number) this.settings.getOrDefault(SettingKey.insert_block_rows, 0)).intValue();
+            this.insertBlocksInFlight = ((Number) this.settings.getOrDefault(SettingKey.insert_blocks_in_flight, 1)).intValue();
+            this.nio = (boolean) this.settings.getOrDefault(SettingKey.nio, false);
             this.ssl = (boolean) this.settings.getOrDefault(SettingKey.ssl, false);
             this.sslMode = (String) this.settings.getOrDefault(SettingKey.sslMode, "disabled");
             this.charset = Charset.forName((String) this.settings.getOrDefault(SettingKey.charset, "UTF-8"));
@@ -375,10 +521,16 @@ public class TimeplusConfig implements Serializable {
                     String.format(Locale.ROOT, "%s %s", TimeplusDefines.NAME, "client"));
 
             revisit();
+            if ("zstd".equals(this.compressionMethod)) {
+                // ask the server to compress what it sends back with ZSTD as well
+                this.settings.putIfAbsent(SettingKey.network_compression_method, "ZSTD");
+            }
             purgeSettings();
 
             return new TimeplusConfig(host, port, database, user, password, queryTimeout, connectTimeout,
-                    tcpKeepAlive, ssl, sslMode, charset.name(), clientName, settings);
+                    tcpKeepAlive, writeBufferSize, compressionMethod, compressionMinRatio,
+                    compressionParallelism, readAheadBlocks, readAheadBytes, lazyDecode,
+                    insertBlockRows, insertBlocksInFlight, nio, ssl, sslMode, charset.name(), clientName, settings);
         }
 
         private void revisit() {
@@ -389,6 +541,23 @@ public class TimeplusConfig implements Serializable {
             if (StrUtil.isBlank(this.database)) this.database = "default";
             if (this.queryTimeout.isNegative()) this.queryTimeout = Duration.ZERO;
             if (this.connectTimeout.isNegative()) this.connectTimeout = Duration.ZERO;
+            if (this.writeBufferSize <= 0) this.writeBufferSize = TimeplusDefines.SOCKET_WRITE_BUFFER_BYTES;
+            if (!isCompressionMethod(this.compressionMethod)) this.compressionMethod = "lz4";
+            this.compressionMethod = this.compressionMethod.trim().toLowerCase(Locale.ROOT);
+            if (!(this.compressionMinRatio > 0)) this.compressionMinRatio = 0;
+            if (this.compressionParallelism < 0) this.compressionParallelism = 0;
+            if (this.readAheadBlocks < 0) this.readAheadBlocks = 0;
+            if (this.readAheadBytes <= 0) this.readAheadBytes = TimeplusDefines.READ_AHEAD_BYTES;
+            if (this.insertBlockRows < 0) this.insertBlockRows = 0;
+            if (this.insertBlocksInFlight <= 0) this.insertBlocksInFlight = 1;
+        }
+
+        private static boolean isCompressionMethod(String name) {
+            try {
+                return name != null && CompressionMethod.of(name) != null;
+            } catch (IllegalArgumentException ex) {
+                return false;
+            }
         }
 
         private void purgeSettings() {
@@ -400,6 +569,16 @@ public class TimeplusConfig implements Serializable {
             this.settings.remove(SettingKey.query_timeout);
             this.settings.remove(SettingKey.connect_timeout);
             this.settings.remove(SettingKey.tcp_keep_alive);
+            this.settings.remove(SettingKey.write_buffer_size);
+            this.settings.remove(SettingKey.compression_method);
+            this.settings.remove(SettingKey.compression_min_ratio);
+            this.settings.remove(SettingKey.compression_parallelism);
+            this.settings.remove(SettingKey.read_ahead_blocks);
+            this.settings.remove(SettingKey.read_ahead_bytes);
+            this.settings.remove(SettingKey.lazy_decode);
+            this.settings.remove(SettingKey.insert_block_rows);
+            this.settings.remove(SettingKey.insert_blocks_in_flight);
+            this.settings.remove(SettingKey.nio);
             this.settings.remove(SettingKey.ssl);
             this.settings.remove(SettingKey.sslMode);
             this.settings.remove(SettingKey.charset);
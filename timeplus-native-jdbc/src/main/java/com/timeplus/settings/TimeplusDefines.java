@@ -44,6 +44,17 @@ public class TimeplusDefines {
     public static int SOCKET_SEND_BUFFER_BYTES = 1024 * 1024;
     public static int SOCKET_RECV_BUFFER_BYTES = 1024 * 1024;
 
+    /**
+     * Default capacity of the client side buffer which coalesces small writes (VarInt, byte, short string etc.)
+     * before they are handed over to the socket, can be overridden by the `write_buffer_size` setting.
+     */
+    public static int SOCKET_WRITE_BUFFER_BYTES = 64 * 1024;
+
+    /**
+     * Default memory limit of result blocks read ahead, see `read_ahead_bytes`.
+     */
+    public static long READ_AHEAD_BYTES = 64 * 1024 * 1024;
+
     // MAX_BLOCK_BYTES does not work
     public static int MAX_BLOCK_BYTES = 10 * 1024 * 1024;
     public static int COLUMN_BUFFER_BYTES = 1024 * 1024;
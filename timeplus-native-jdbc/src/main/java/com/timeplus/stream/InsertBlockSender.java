@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.stream;
+
+import com.timeplus.data.Block;
+import com.timeplus.log.Logger;
+import com.timeplus.log.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes, compresses and writes the filled blocks of a batch INSERT on a background thread, so the caller
+ * can fill the next block meanwhile. Blocks are sent in order, at most `maxInFlight` of them are queued or
+ * being sent, {@link #send(Block)} waits for room beyond that. Sent blocks release their write buffers.
+ */
+public class InsertBlockSender {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InsertBlockSender.class);
+
+    @FunctionalInterface
+    public interface BlockSink {
+        void send(Block block) throws SQLException;
+    }
+
+    private final BlockSink sink;
+    private final int maxInFlight;
+    private final Thread thread;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<Block> queue = new ArrayDeque<>();
+    private boolean sending;
+    private long sentRows;
+    private Exception error;
+    private boolean closed;
+
+    /**
+     * @param sink        writes one data block to the connection
+     * @param maxInFlight max number of blocks queued or being sent
+     */
+    public InsertBlockSender(BlockSink sink, int maxInFlight) {
+        this.sink = sink;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.thread = new Thread(this::sendLoop, "timeplus-insert-sender");
+        this.thread.setDaemon(true);
+    }
+
+    public InsertBlockSender start() {
+        thread.start();
+        return this;
+    }
+
+    /**
+     * Queue a filled block, waits while `maxInFlight` blocks are in flight. A failure of a previous block is
+     * rethrown here, the block is then not sent.
+     */
+    public void send(Block block) throws SQLException {
+        lock.lock();
+        try {
+            while (error == null && !closed && inFlight() >= maxInFlight) {
+                notFull.awaitUninterruptibly();
+            }
+            if (error != null || closed) {
+                block.cleanup();
+                throwError();
+            }
+            queue.add(block);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until all queued blocks are sent.
+     *
+     * @return rows of the blocks sent since the previous call
+     */
+    public long finish() throws SQLException {
+        lock.lock();
+        try {
+            while (error == null && !closed && inFlight() > 0) {
+                notFull.awaitUninterruptibly();
+            }
+            long rows = sentRows;
+            sentRows = 0;
+            if (error != null || closed) {
+                throwError();
+            }
+            return rows;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the queued blocks and stop the background thread. A block being sent is completed first.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            dropQueued();
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // must hold the lock
+    private int inFlight() {
+        return queue.size() + (sending ? 1 : 0);
+    }
+
+    // must hold the lock, the error is reported once, the sender can be used again afterwards
+    private void throwError() throws SQLException {
+        Exception ex = error;
+        error = null;
+        if (ex == null) {
+            throw new SQLException("InsertBlockSender is closed");
+        }
+        if (ex instanceof SQLException) {
+            throw (SQLException) ex;
+        }
+        throw new SQLException(ex.getMessage(), ex);
+    }
+
+    private void sendLoop() {
+        while (true) {
+            Block block;
+            lock.lock();
+            try {
+                while (!closed && queue.isEmpty()) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+                block = queue.poll();
+                sending = true;
+            } finally {
+                lock.unlock();
+            }
+
+            Exception failure = null;
+            try {
+                sink.send(block);
+            } catch (SQLException | RuntimeException ex) {
+                LOG.debug("sending insert block failed", ex);
+                failure = ex;
+            } finally {
+                block.cleanup();
+            }
+
+            lock.lock();
+            try {
+                sending = false;
+                if (failure == null) {
+                    sentRows += block.rowCnt();
+                } else {
+                    error = failure;
+                    dropQueued();
+                }
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // must hold the lock
+    private void dropQueued() {
+        // a block being sent is released by the sending thread
+        while (!queue.isEmpty()) {
+            queue.poll().cleanup();
+        }
+    }
+}
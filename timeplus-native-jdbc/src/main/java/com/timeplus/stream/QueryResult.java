@@ -25,4 +25,12 @@ public interface QueryResult {
     Block header() throws SQLException;
 
     CheckedIterator<DataResponse, SQLException> data();
+
+    /**
+     * Stop reading the responses of the query. Closed before the end of stream, the query is cancelled and its
+     * remaining responses are skipped, so they are not taken for those of the next request. A query read ahead
+     * aborts the connection instead, it is replaced when used next.
+     */
+    default void close() throws SQLException {
+    }
 }
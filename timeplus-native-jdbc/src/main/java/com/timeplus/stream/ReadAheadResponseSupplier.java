@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.stream;
+
+import com.timeplus.exception.TimeplusSQLException;
+import com.timeplus.log.Logger;
+import com.timeplus.log.LoggerFactory;
+import com.timeplus.misc.CheckedSupplier;
+import com.timeplus.protocol.EOFStreamResponse;
+import com.timeplus.protocol.Response;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Reads, decompresses and decodes the responses of a query on a background thread, so the caller can iterate
+ * the current block meanwhile. The queue is bounded by the number of responses and by the decompressed bytes
+ * they took, the thread stops reading ahead while either limit is reached.
+ * <p>
+ * Closing it before the end of stream is read aborts the connection, the thread may be blocked reading a query
+ * that sends nothing, and the responses left unread could not be told apart from those of the next request.
+ */
+public class ReadAheadResponseSupplier implements CheckedSupplier<Response, SQLException> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadAheadResponseSupplier.class);
+
+    private final CheckedSupplier<Response, SQLException> source;
+    private final LongSupplier bytesRead;
+    private final int maxResponses;
+    private final long maxBytes;
+    private final Runnable abort;
+    private final Thread thread;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean closed;
+    // the end of stream or an exception sent by the server was read, nothing of the query is left on the connection
+    private boolean finished;
+    // the thread stopped, nothing is queued any more
+    private boolean terminated;
+
+    /**
+     * @param source       reads the next response from the connection
+     * @param bytesRead    running total of bytes read by the source, used to account the size of each response
+     * @param maxResponses max number of responses read ahead
+     * @param maxBytes     max bytes of responses read ahead, at least one response is always read ahead
+     * @param abort        fails the connection, so a read blocked on it returns
+     */
+    public ReadAheadResponseSupplier(CheckedSupplier<Response, SQLException> source, LongSupplier bytesRead,
+                                     int maxResponses, long maxBytes, Runnable abort) {
+        this.source = source;
+        this.bytesRead = bytesRead;
+        this.maxResponses = maxResponses;
+        this.maxBytes = maxBytes;
+        this.abort = abort;
+        this.thread = new Thread(this::readAhead, "timeplus-read-ahead");
+        this.thread.setDaemon(true);
+    }
+
+    public ReadAheadResponseSupplier start() {
+        thread.start();
+        return this;
+    }
+
+    @Override
+    public Response get() throws SQLException {
+        Entry entry;
+        lock.lock();
+        try {
+            while (queue.isEmpty()) {
+                if (closed || terminated) {
+                    return null;
+                }
+                notEmpty.awaitUninterruptibly();
+            }
+            // an error is the last entry, it stays queued and is rethrown by every later call
+            entry = queue.peek();
+            if (entry.error == null) {
+                queue.poll();
+                queuedBytes -= entry.bytes;
+                notFull.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry.error instanceof SQLException) {
+            throw (SQLException) entry.error;
+        }
+        if (entry.error != null) {
+            throw new SQLException(entry.error.getMessage(), entry.error);
+        }
+        return entry.response;
+    }
+
+    /**
+     * Drop the responses read ahead and stop the background thread. Unless the end of stream was read, the
+     * connection is aborted first. The connection is not touched by the thread any more once this returns.
+     */
+    public void close() {
+        boolean unfinished;
+        lock.lock();
+        try {
+            unfinished = !finished;
+            closed = true;
+            queue.clear();
+            queuedBytes = 0;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (unfinished) {
+            abort.run();
+        }
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void readAhead() {
+        try {
+            while (awaitRoom()) {
+                long before = bytesRead.getAsLong();
+                Response response = source.get();
+                boolean end = response == null || response instanceof EOFStreamResponse;
+                enqueue(new Entry(response, null, bytesRead.getAsLong() - before), end);
+                if (end) {
+                    return;
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            LOG.debug("read ahead stopped by exception", ex);
+            enqueue(new Entry(null, ex, 0), ex instanceof TimeplusSQLException);
+        } finally {
+            lock.lock();
+            try {
+                terminated = true;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean awaitRoom() {
+        lock.lock();
+        try {
+            while (!closed && (queue.size() >= maxResponses || (queuedBytes >= maxBytes && !queue.isEmpty()))) {
+                notFull.awaitUninterruptibly();
+            }
+            return !closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Entry entry, boolean end) {
+        lock.lock();
+        try {
+            finished = end;
+            if (closed) {
+                return;
+            }
+            queue.add(entry);
+            queuedBytes += entry.bytes;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Entry {
+        private final Response response;
+        private final Exception error;
+        private final long bytes;
+
+        Entry(Response response, Exception error, long bytes) {
+            this.response = response;
+            this.error = error;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package com.timeplus.stream;
 
 import com.timeplus.data.Block;
+import com.timeplus.exception.TimeplusSQLException;
 import com.timeplus.misc.CheckedIterator;
 import com.timeplus.misc.CheckedSupplier;
 import com.timeplus.protocol.DataResponse;
@@ -28,6 +29,8 @@ import java.sql.SQLException;
 
 public class TimeplusQueryResult implements QueryResult {
     private final CheckedSupplier<Response, SQLException> responseSupplier;
+    // run when closed before the end of stream
+    private final Runnable onClose;
     private ProgressListener progressListener;
     private Block header;
     private boolean atEnd;
@@ -37,12 +40,17 @@ public class TimeplusQueryResult implements QueryResult {
     // EndOfStream
 
     public TimeplusQueryResult(CheckedSupplier<Response, SQLException> responseSupplier) {
+        this(responseSupplier, () -> { });
+    }
+
+    public TimeplusQueryResult(CheckedSupplier<Response, SQLException> responseSupplier, Runnable onClose) {
         this.responseSupplier = responseSupplier;
+        this.onClose = onClose;
     }
 
     public TimeplusQueryResult(CheckedSupplier<Response, SQLException> responseSupplier, ProgressListener progressListener) {
+        this(responseSupplier);
         this.progressListener = progressListener;
-        this.responseSupplier = responseSupplier;
     }
 
     public void setProgressListener(ProgressListener progressListener) {
@@ -88,6 +96,14 @@ public class TimeplusQueryResult implements QueryResult {
         };
     }
 
+    @Override
+    public void close() {
+        if (!atEnd) {
+            atEnd = true;
+            onClose.run();
+        }
+    }
+
     private void ensureHeaderConsumed() throws SQLException {
         if (header == null) {
             DataResponse firstDataResponse = consumeDataResponse();
@@ -99,7 +115,14 @@ public class TimeplusQueryResult implements QueryResult {
         long readRows = 0;
         long readBytes = 0;
         while (!atEnd) {
-            Response response = responseSupplier.get();
+            Response response;
+            try {
+                response = responseSupplier.get();
+            } catch (TimeplusSQLException ex) {
+                // an exception sent by the server ends the stream
+                atEnd = true;
+                throw ex;
+            }
             if (response instanceof DataResponse) {
                 DataResponse dataResponse = (DataResponse) response;
                 dataResponse.block().setProgress(readRows, readBytes);
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.io.EOFException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChannelBuffedReaderTest {
+
+    @Test
+    public void successfullyReadAcrossRefills() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()))) {
+            // closed by the test to end the stream, and in finally when an assertion fails before
+            Socket peer = server.accept();
+            try {
+                successfullyReadAcrossRefills(channel, peer);
+            } finally {
+                peer.close();
+            }
+        }
+    }
+
+    private static void successfullyReadAcrossRefills(SocketChannel channel, Socket peer) throws Exception {
+        ChannelBuffedReader reader = new ChannelBuffedReader(channel, 4);
+        OutputStream out = peer.getOutputStream();
+        out.write(new byte[] {1, 0, 0, 0, 2, 0, 3, (byte) 0xFF});
+        out.flush();
+
+        assertEquals(1, reader.readBinary());
+
+        byte[] bytes = new byte[5];
+        reader.readBinary(bytes);
+        assertArrayEquals(new byte[] {0, 0, 0, 2, 0}, bytes);
+
+        assertEquals(3, reader.readBinary());
+        assertEquals(0xFF, reader.readBinary());
+
+        peer.close();
+        assertThrows(EOFException.class, reader::readBinary);
+        reader.release();
+    }
+
+    @Test
+    public void honourSocketTimeout() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+             Socket peer = server.accept()) {
+
+            // the peer stays connected and silent, so the read can only end by the timeout
+            assertTrue(peer.isConnected());
+            ChannelBuffedReader reader = new ChannelBuffedReader(channel, 4);
+            channel.socket().setSoTimeout(50);
+
+            assertThrows(SocketTimeoutException.class, reader::readBinary);
+            reader.release();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChannelBuffedWriterTest {
+
+    @Test
+    public void successfullyWriteSmallAndLargeChunks() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+             Socket peer = server.accept()) {
+
+            ChannelBuffedWriter writer = new ChannelBuffedWriter(channel, 8);
+            byte[] large = new byte[1024 * 1024];
+            for (int i = 0; i < large.length; i++) {
+                large[i] = (byte) i;
+            }
+
+            DataInputStream in = new DataInputStream(peer.getInputStream());
+            byte[] received = new byte[3 + large.length + 1];
+            CompletableFuture<Void> receiving = CompletableFuture.runAsync(() -> {
+                try {
+                    in.readFully(received);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.writeBinary((byte) 1);
+            writer.writeBinary(new byte[] {2, 3}, 0, 2);
+            // larger than capacity, goes out together with the pending bytes by a gathering write
+            writer.writeBinary(large, 0, large.length);
+            writer.writeBinary((byte) 4);
+            writer.flushToTarget(true);
+            receiving.get(10, TimeUnit.SECONDS);
+
+            assertEquals(1, received[0]);
+            assertEquals(2, received[1]);
+            assertEquals(3, received[2]);
+            for (int i = 0; i < large.length; i++) {
+                assertEquals(large[i], received[3 + i]);
+            }
+            assertEquals(4, received[received.length - 1]);
+            writer.release();
+        }
+    }
+
+    @Test
+    public void successfullyGatherBufferList() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+             Socket peer = server.accept()) {
+
+            ChannelBuffedWriter writer = new ChannelBuffedWriter(channel, 8);
+            ByteBuffer first = ByteBuffer.wrap(new byte[] {2, 3, 4});
+            ByteBuffer second = ByteBuffer.wrap(new byte[] {5, 6});
+
+            writer.writeBinary((byte) 1);
+            writer.writeBinary(Arrays.asList(first, second));
+            writer.writeBinary((byte) 7);
+            writer.flushToTarget(true);
+
+            byte[] received = new byte[7];
+            new DataInputStream(peer.getInputStream()).readFully(received);
+
+            assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7}, received);
+            assertFalse(first.hasRemaining());
+            assertFalse(second.hasRemaining());
+            writer.release();
+        }
+    }
+
+    @Test
+    public void successfullyGatherBufferListEndingWithEmptyChunk() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+             Socket peer = server.accept()) {
+
+            ChannelBuffedWriter writer = new ChannelBuffedWriter(channel, 8);
+            byte[] large = new byte[1024 * 1024];
+            for (int i = 0; i < large.length; i++) {
+                large[i] = (byte) i;
+            }
+            // a column filling its last chunk exactly leaves an empty chunk behind it
+            ByteBuffer full = ByteBuffer.wrap(large);
+            ByteBuffer empty = ByteBuffer.allocate(16);
+            ((Buffer) empty).flip();
+
+            DataInputStream in = new DataInputStream(peer.getInputStream());
+            byte[] received = new byte[1 + large.length];
+            CompletableFuture<Void> receiving = CompletableFuture.runAsync(() -> {
+                try {
+                    in.readFully(received);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.writeBinary((byte) 1);
+            writer.writeBinary(Arrays.asList(full, empty));
+            writer.flushToTarget(true);
+            receiving.get(10, TimeUnit.SECONDS);
+
+            assertEquals(1, received[0]);
+            assertArrayEquals(large, Arrays.copyOfRange(received, 1, received.length));
+            assertFalse(full.hasRemaining());
+            writer.release();
+        }
+    }
+}
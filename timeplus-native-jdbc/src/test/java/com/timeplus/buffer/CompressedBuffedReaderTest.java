@@ -49,6 +49,51 @@ public class CompressedBuffedReaderTest {
         assertEquals(compressedBuffed.readBinary(), 7);
     }
 
+    @Test
+    public void successfullyReuseFrameBuffersAcrossFrameSizes() throws Exception {
+        byte[] large = new byte[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) (i % 7);
+        }
+
+        CompressedBuffedReader compressedBuffed = new CompressedBuffedReader(
+            new FragmentBuffedReader(compressedData(large), compressedData(new byte[] {8, 9}), noneCompressedData(new byte[] {10, 11, 12}))
+        );
+
+        byte[] bytes = new byte[large.length];
+        compressedBuffed.readBinary(bytes);
+        assertArrayEquals(large, bytes);
+
+        // smaller frames are decoded into the retained buffers, stale bytes must not leak through
+        bytes = new byte[5];
+        compressedBuffed.readBinary(bytes, 0, 5);
+        assertArrayEquals(new byte[] {8, 9, 10, 11, 12}, bytes);
+    }
+
+    @Test
+    public void successfullyJoinPrimitiveSplitAcrossFrames() throws Exception {
+        CompressedBuffedReader compressedBuffed = new CompressedBuffedReader(
+            new FragmentBuffedReader(compressedData(new byte[] {1, 0, 0, 0, 2, 1}), noneCompressedData(new byte[] {0, 0}),
+                compressedData(new byte[] {5, 0, 0}), compressedData(new byte[] {0}), compressedData(new byte[] {0, 0, 0, 0, 9}))
+        );
+
+        assertEquals(1, compressedBuffed.window(4).getInt());
+        assertEquals(0x102, compressedBuffed.window(4).getInt());
+        // a long spread over three frames
+        assertEquals(5L, compressedBuffed.window(8).getLong());
+        assertEquals(9, compressedBuffed.readBinary());
+    }
+
+    private byte[] noneCompressedData(byte[] bytes) {
+        byte[] data = new byte[bytes.length + COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH];
+
+        data[16] = (byte) (0x02 & 0xFF);
+        System.arraycopy(bytes, 0, data, COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH, bytes.length);
+        System.arraycopy(littleEndian(bytes.length + COMPRESSION_HEADER_LENGTH), 0, data, CHECKSUM_LENGTH + 1, 4);
+        System.arraycopy(littleEndian(bytes.length), 0, data, CHECKSUM_LENGTH + 4 + 1, 4);
+
+        return data;
+    }
 
     private byte[] compressedData(byte[] bytes) {
         Compressor lz4Compressor = new Lz4Compressor();
@@ -0,0 +1,229 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import com.timeplus.data.ColumnWriterBuffer;
+import com.timeplus.jdbc.tool.FragmentBuffedReader;
+import com.timeplus.misc.BytesHelper;
+import com.timeplus.misc.TimeplusCityHash;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+import com.timeplus.settings.TimeplusDefines;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.timeplus.settings.TimeplusDefines.CHECKSUM_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedBuffedWriterTest implements BytesHelper {
+
+    @Test
+    public void successfullyRoundTripChunksAcrossFrames() throws Exception {
+        byte[] data = new byte[10 * 1024 + 123];
+        new Random(42).nextBytes(data);
+
+        ByteArrayWriter target = new ByteArrayWriter(1024);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(1024, target);
+        writer.writeBinary(data[0]);
+        // fills the pending frame first, then frames are compressed straight from the array
+        writer.writeBinary(data, 1, 4000);
+        writer.writeBinary(data, 4001, 10);
+        writer.writeBinary(Arrays.asList(ByteBuffer.wrap(data, 4011, 3000), ByteBuffer.wrap(data, 7011, data.length - 7011)));
+        writer.flushToTarget(true);
+
+        CompressedBuffedReader reader = new CompressedBuffedReader(new FragmentBuffedReader(toBytes(target.getBufferList())));
+        byte[] decoded = new byte[data.length];
+        reader.readBinary(decoded);
+
+        assertArrayEquals(data, decoded);
+    }
+
+    @Test
+    public void successfullyCompressColumnChunksWithoutStagingThem() throws Exception {
+        // 2 full chunks and a partial one of more than half a frame, then a column smaller than half a frame
+        int longs = 350_000;
+        int ints = 1000;
+        for (ForkJoinPool pool : Arrays.asList(null, new ForkJoinPool(2))) {
+            ColumnWriterBuffer large = new ColumnWriterBuffer();
+            for (int i = 0; i < longs; i++) {
+                large.column.writeLong(i % 100);
+            }
+            ColumnWriterBuffer small = new ColumnWriterBuffer();
+            for (int i = 0; i < ints; i++) {
+                small.column.writeInt(i);
+            }
+
+            ByteArrayWriter target = new ByteArrayWriter(TimeplusDefines.SOCKET_SEND_BUFFER_BYTES);
+            CompressedBuffedWriter writer = new CompressedBuffedWriter(TimeplusDefines.SOCKET_SEND_BUFFER_BYTES,
+                    target, CompressionMethod.LZ4, 0, pool);
+            BinarySerializer serializer = new BinarySerializer(writer, false);
+            try {
+                serializer.writeVarInt(2);
+                serializer.writeVarInt(longs);
+                serializer.writeUTF8StringBinary("id");
+                serializer.writeUTF8StringBinary("int64");
+                large.writeTo(serializer);
+                serializer.writeUTF8StringBinary("value");
+                serializer.writeUTF8StringBinary("int32");
+                small.writeTo(serializer);
+                serializer.flushToTarget(true);
+            } finally {
+                if (pool != null) {
+                    pool.shutdown();
+                }
+            }
+
+            // only the block and column headers and the small column are copied
+            int headerBytes = 1 + 3 + (1 + 2) + (1 + 5) + (1 + 5) + (1 + 5);
+            assertEquals(headerBytes + ints * Integer.BYTES, writer.stagedBytes());
+            assertEquals(5, writer.compressedFrames());
+
+            BinaryDeserializer deserializer = new BinaryDeserializer(
+                    new CompressedBuffedReader(new FragmentBuffedReader(toBytes(target.getBufferList()))), false);
+            assertEquals(2, deserializer.readVarInt());
+            assertEquals(longs, deserializer.readVarInt());
+            assertEquals("id", deserializer.readUTF8StringBinary());
+            assertEquals("int64", deserializer.readUTF8StringBinary());
+            for (int i = 0; i < longs; i++) {
+                assertEquals(i % 100, deserializer.readLong());
+            }
+            assertEquals("value", deserializer.readUTF8StringBinary());
+            assertEquals("int32", deserializer.readUTF8StringBinary());
+            for (int i = 0; i < ints; i++) {
+                assertEquals(i, deserializer.readInt());
+            }
+        }
+    }
+
+    @Test
+    public void successfullyRoundTripZstdFrames() throws Exception {
+        byte[] data = new byte[5000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 13);
+        }
+
+        ByteArrayWriter target = new ByteArrayWriter(1024);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(2048, target, CompressionMethod.ZSTD);
+        writer.writeBinary(data, 0, data.length);
+        writer.flushToTarget(true);
+
+        byte[] stream = toBytes(target.getBufferList());
+        assertEquals((byte) 0x90, stream[CHECKSUM_LENGTH]);
+
+        CompressedBuffedReader reader = new CompressedBuffedReader(new FragmentBuffedReader(stream));
+        byte[] decoded = new byte[data.length];
+        reader.readBinary(decoded);
+
+        assertArrayEquals(data, decoded);
+    }
+
+    @Test
+    public void successfullySkipCompressionOfIncompressibleFrames() throws Exception {
+        byte[] random = new byte[8 * 1024];
+        new Random(3).nextBytes(random);
+        byte[] zeros = new byte[1024];
+
+        ByteArrayWriter target = new ByteArrayWriter(1024);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(1024, target, CompressionMethod.LZ4, 1.1f, null);
+        writer.writeBinary(zeros, 0, zeros.length);
+        // the first random frame is sampled, the following 7 skip compression, the next frame is sampled again
+        writer.writeBinary(random, 0, random.length);
+        writer.writeBinary(zeros, 0, zeros.length);
+        writer.flushToTarget(true);
+
+        assertEquals(8, writer.skippedFrames());
+        assertEquals(2, writer.compressedFrames());
+
+        byte[] stream = toBytes(target.getBufferList());
+        assertEquals((byte) 0x82, stream[CHECKSUM_LENGTH]);
+        assertEquals((byte) 0x02, stream[getIntLE(stream, CHECKSUM_LENGTH + 1) + CHECKSUM_LENGTH + CHECKSUM_LENGTH]);
+
+        CompressedBuffedReader reader = new CompressedBuffedReader(new FragmentBuffedReader(stream));
+        byte[] decoded = new byte[zeros.length + random.length + zeros.length];
+        reader.readBinary(decoded);
+
+        assertArrayEquals(zeros, Arrays.copyOfRange(decoded, 0, zeros.length));
+        assertArrayEquals(random, Arrays.copyOfRange(decoded, zeros.length, zeros.length + random.length));
+        assertArrayEquals(zeros, Arrays.copyOfRange(decoded, zeros.length + random.length, decoded.length));
+    }
+
+    @Test
+    public void successfullyCompressFramesConcurrentlyInOrder() throws Exception {
+        byte[] data = new byte[10 * 1024 + 500];
+        Random random = new Random(11);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) random.nextInt(16);
+        }
+
+        ByteArrayWriter serialTarget = new ByteArrayWriter(1024);
+        CompressedBuffedWriter serial = new CompressedBuffedWriter(1024, serialTarget);
+        ByteArrayWriter parallelTarget = new ByteArrayWriter(1024);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        CompressedBuffedWriter parallel = new CompressedBuffedWriter(1024, parallelTarget, CompressionMethod.LZ4, 0, pool);
+        try {
+            for (CompressedBuffedWriter writer : Arrays.asList(serial, parallel)) {
+                writer.writeBinary(data[0]);
+                writer.writeBinary(data, 1, 6000);
+                writer.writeBinary(Collections.singletonList(ByteBuffer.wrap(data, 6001, data.length - 6001)));
+                writer.flushToTarget(true);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(11, parallel.compressedFrames());
+        assertArrayEquals(toBytes(serialTarget.getBufferList()), toBytes(parallelTarget.getBufferList()));
+    }
+
+    @Test
+    public void successfullyWriteFrameHeaderAndChecksumInPlace() throws Exception {
+        byte[] data = new byte[3000];
+        new Random(7).nextBytes(data);
+
+        ByteArrayWriter target = new ByteArrayWriter(1024);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(1024, target);
+        writer.writeBinary(data, 0, data.length);
+        writer.flushToTarget(true);
+
+        byte[] stream = toBytes(target.getBufferList());
+        int frames = 0;
+        for (int offset = 0; offset < stream.length; frames++) {
+            assertEquals((byte) 0x82, stream[offset + CHECKSUM_LENGTH]);
+            int compressedSize = getIntLE(stream, offset + CHECKSUM_LENGTH + 1);
+            assertEquals(frames < 2 ? 1024 : 3000 - 2048, getIntLE(stream, offset + CHECKSUM_LENGTH + 5));
+
+            long[] checksum = TimeplusCityHash.cityHash128(stream, offset + CHECKSUM_LENGTH, compressedSize);
+            assertEquals(checksum[0], getLongLE(stream, offset));
+            assertEquals(checksum[1], getLongLE(stream, offset + Long.BYTES));
+            offset += CHECKSUM_LENGTH + compressedSize;
+        }
+        assertEquals(3, frames);
+    }
+
+    private byte[] toBytes(List<ByteBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        return out.toByteArray();
+    }
+}
@@ -45,6 +45,17 @@ public class SocketBuffedReaderTest {
         assertEquals(buffedReader.readBinary(), 4);
     }
 
+    @Test
+    public void successfullyReadPrimitivesAcrossRefills() throws Exception {
+        SocketBuffedReader buffedReader = new SocketBuffedReader(
+            fragmentInput(new byte[] {1, 0, 0, 0, 2}, new byte[] {0, 0, 0, 7, 0, 0, 0}), 8);
+
+        assertEquals(1, buffedReader.window(4).getInt());
+        // the unread byte is moved to the front before reading the rest
+        assertEquals(2, buffedReader.window(4).getInt());
+        assertEquals(7, buffedReader.window(4).getInt());
+    }
+
 
     private InputStream fragmentInput(final byte[]... fragments) throws IOException {
         InputStream in = Mockito.mock(InputStream.class);
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.buffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SocketBuffedWriterTest {
+
+    @Test
+    public void coalesceSmallWritesUntilForceFlush() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+        SocketBuffedWriter writer = new SocketBuffedWriter(out, 16);
+
+        writer.writeBinary((byte) 1);
+        writer.writeBinary(new byte[] {2, 3, 4}, 0, 3);
+        writer.writeBinary((byte) 5);
+        writer.flushToTarget(false);
+
+        assertEquals(0, out.size());
+
+        writer.flushToTarget(true);
+
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5}, out.toByteArray());
+        assertEquals(1, out.writes);
+        writer.release();
+    }
+
+    @Test
+    public void drainWhenBufferIsFull() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SocketBuffedWriter writer = new SocketBuffedWriter(out, 4);
+
+        for (byte i = 0; i < 6; i++) {
+            writer.writeBinary(i);
+        }
+        assertArrayEquals(new byte[] {0, 1, 2, 3}, out.toByteArray());
+
+        writer.writeBinary(new byte[] {6, 7, 8}, 0, 3);
+        assertArrayEquals(new byte[] {0, 1, 2, 3, 4, 5}, out.toByteArray());
+
+        writer.flushToTarget(true);
+        assertArrayEquals(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8}, out.toByteArray());
+        writer.release();
+    }
+
+    @Test
+    public void writeLargeChunkThrough() throws Exception {
+        OutputStream out = Mockito.mock(OutputStream.class);
+        SocketBuffedWriter writer = new SocketBuffedWriter(out, 4);
+        byte[] large = new byte[] {1, 2, 3, 4, 5, 6, 7, 8};
+
+        writer.writeBinary((byte) 0);
+        writer.writeBinary(large, 0, large.length);
+
+        Mockito.verify(out).write(Mockito.any(byte[].class), Mockito.eq(0), Mockito.eq(1));
+        Mockito.verify(out).write(large, 0, large.length);
+        writer.release();
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int writes;
+
+        @Override
+        public synchronized void write(int b) {
+            writes++;
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+    }
+}
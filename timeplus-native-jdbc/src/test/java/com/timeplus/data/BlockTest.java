@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.deserializer;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.serverContext;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.client.NativeContext;
+import com.timeplus.jdbc.TimeplusArray;
+import com.timeplus.serde.BinarySerializer;
+import com.timeplus.settings.TimeplusConfig;
+
+public class BlockTest {
+
+    private static final String[] TYPES = {
+            "int64", "string", "array(int32)", "nullable(string)", "fixed_string(3)", "nullable(float64)"};
+
+    @Test
+    void GIVEN_lazy_decode_WHEN_readFrom_THEN_columns_decode_to_same_values() throws Exception {
+        IDataType<?, ?> int32 = DataTypeFactory.get("int32", context(false));
+        Object[][] rows = {
+                {1L, "a", new TimeplusArray(int32, new Object[] {1, 2}), null, "abc", 1.5},
+                {-2L, "", new TimeplusArray(int32, new Object[0]), "bb", "def", null},
+                {3L, "ccc", new TimeplusArray(int32, new Object[] {3}), "", "ghi", 2.5},
+        };
+        byte[] encoded = encode(rows);
+
+        Block eager = read(encoded, false);
+        Block lazy = read(encoded, true);
+
+        assertEquals(rows.length, lazy.rowCnt());
+        assertEquals(3, lazy.getPositionByName("array"));
+        // out of order, an access must not depend on the columns decoded before
+        for (int c = TYPES.length - 1; c >= 0; c--) {
+            for (int r = 0; r < rows.length; r++) {
+                Object expected = eager.getColumn(c).value(r);
+                Object actual = lazy.getColumn(c).value(r);
+                if (expected instanceof TimeplusArray) {
+                    assertArrayEquals(((TimeplusArray) expected).getArray(), ((TimeplusArray) actual).getArray());
+                } else {
+                    assertEquals(expected, actual);
+                }
+            }
+        }
+        assertEquals(3L, lazy.getColumn(0).value(2));
+        assertEquals("bb", lazy.getColumn(3).value(1));
+    }
+
+    private static byte[] encode(Object[][] rows) throws Exception {
+        IColumn[] columns = new IColumn[TYPES.length];
+        for (int c = 0; c < TYPES.length; c++) {
+            String name = TYPES[c].replaceAll("\\(.*", "");
+            columns[c] = ColumnFactory.createColumn(name, DataTypeFactory.get(TYPES[c], context(false)), new Object[0]);
+            columns[c].setColumnWriterBuffer(new ColumnWriterBuffer());
+        }
+        Block block = new Block(0, columns);
+        for (Object[] row : rows) {
+            for (int c = 0; c < row.length; c++) {
+                block.setObject(c, row[c]);
+            }
+            block.appendRow();
+        }
+
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        block.writeTo(serializer);
+        serializer.flushToTarget(true);
+        return toBytes(writer);
+    }
+
+    private static Block read(byte[] encoded, boolean lazyDecode) throws Exception {
+        return Block.readFrom(deserializer(encoded), context(lazyDecode));
+    }
+
+    private static NativeContext.ServerContext context(boolean lazyDecode) {
+        return serverContext(TimeplusConfig.Builder.builder().lazyDecode(lazyDecode).build(), ZoneId.systemDefault());
+    }
+}
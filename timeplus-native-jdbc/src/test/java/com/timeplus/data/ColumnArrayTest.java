@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.roundTrip;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.type;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.timeplus.jdbc.TimeplusArray;
+
+public class ColumnArrayTest {
+
+    @Test
+    void GIVEN_float64_array_column_WHEN_readColumn_THEN_rows_are_views_of_one_flat_column() throws Exception {
+        IDataType<?, ?> float64 = type("float64");
+        IColumn column = roundTrip("array(float64)",
+                new TimeplusArray(float64, new Object[]{1.5, 2.5}),
+                new TimeplusArray(float64, new Object[0]),
+                new TimeplusArray(float64, new Object[]{3.5}));
+
+        assertTrue(column instanceof ColumnArray);
+        TimeplusArray first = (TimeplusArray) column.value(0);
+        TimeplusArray second = (TimeplusArray) column.value(1);
+        TimeplusArray third = (TimeplusArray) column.value(2);
+
+        assertArrayEquals(new double[]{1.5, 2.5}, first.unwrap(double[].class));
+        assertArrayEquals(new long[]{1, 2}, first.unwrap(long[].class));
+        assertArrayEquals(new double[0], second.unwrap(double[].class));
+        assertArrayEquals(new Object[]{3.5}, third.getArray());
+
+        IPrimitiveColumn elements = first.unwrap(IPrimitiveColumn.class);
+        assertSame(elements, third.unwrap(IPrimitiveColumn.class));
+        assertEquals(2, third.offset());
+        assertEquals(1, third.length());
+        assertEquals(3.5, elements.doubleValue(third.offset()));
+    }
+
+    @Test
+    void GIVEN_nested_array_column_WHEN_readColumn_THEN_inner_arrays_are_read() throws Exception {
+        IDataType<?, ?> int32 = type("int32");
+        IDataType<?, ?> inner = type("array(int32)");
+        IColumn column = roundTrip("array(array(int32))",
+                new TimeplusArray(inner, new Object[]{
+                        new TimeplusArray(int32, new Object[]{1, 2}), new TimeplusArray(int32, new Object[]{3})}),
+                new TimeplusArray(inner, new Object[]{new TimeplusArray(int32, new Object[0])}));
+
+        Object[] first = ((TimeplusArray) column.value(0)).getArray();
+        assertEquals(2, first.length);
+        assertArrayEquals(new int[]{1, 2}, ((TimeplusArray) first[0]).unwrap(int[].class));
+        assertArrayEquals(new Object[]{3}, ((TimeplusArray) first[1]).getArray());
+
+        Object[] second = ((TimeplusArray) column.value(1)).getArray();
+        assertEquals(1, second.length);
+        assertEquals(0, ((TimeplusArray) second[0]).length());
+    }
+}
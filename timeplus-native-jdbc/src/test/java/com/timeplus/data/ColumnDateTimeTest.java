@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.column;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.deserializer;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.read;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.serialize;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.serverContext;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.toBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.timeplus.client.NativeContext;
+import com.timeplus.misc.DateTimeUtil;
+import com.timeplus.serde.BinaryDeserializer;
+
+public class ColumnDateTimeTest {
+
+    private static final ZoneId TZ = ZoneId.of("Europe/Berlin");
+    private static final NativeContext.ServerContext SERVER_CONTEXT = serverContext(TZ);
+
+    @Test
+    void GIVEN_datetime64_WHEN_readColumn_THEN_views_match_the_zoned_date_time() throws Exception {
+        // around the 2021 spring transition, before the epoch and with the sub-second part
+        long[] ticks = {1616893199999L, 1616893200000L, 1616896800123L, -1L, -86400001L, 0L};
+        ByteBuffer stream = ByteBuffer.allocate(ticks.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long tick : ticks) {
+            stream.putLong(tick);
+        }
+
+        ColumnDateTime column = (ColumnDateTime) read(type("datetime64(3)"), ticks.length, toBytes(stream));
+        for (int i = 0; i < ticks.length; i++) {
+            ZonedDateTime expected = DateTimeUtil.toZonedDateTime(0, 0, TZ).plusNanos(ticks[i] * 1_000_000);
+            assertEquals(expected, column.value(i));
+            assertEquals(expected.toInstant(), column.instant(i));
+            assertEquals(expected.toLocalDateTime(), column.localDateTime(i));
+            assertEquals(DateTimeUtil.toTimestamp(expected, null), column.timestamp(i));
+            assertFalse(column.isNull(i));
+        }
+        assertEquals(Timestamp.valueOf("1969-12-31 23:59:59.999").getNanos(), column.timestamp(3).getNanos());
+    }
+
+    @Test
+    void GIVEN_datetime_after_2038_WHEN_readColumn_THEN_seconds_are_unsigned() throws Exception {
+        ZonedDateTime[] values = {
+                DateTimeUtil.toZonedDateTime(1616893200, 0, TZ),
+                ZonedDateTime.of(2038, 1, 19, 3, 14, 8, 0, ZoneId.of("UTC")).withZoneSameInstant(TZ),
+                ZonedDateTime.of(2106, 2, 7, 6, 28, 15, 0, ZoneId.of("UTC")).withZoneSameInstant(TZ)};
+        IDataType<?, ?> type = type("datetime");
+
+        ColumnDateTime column = (ColumnDateTime) read(type, values.length, serialize(column(type, (Object[]) values)));
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], column.value(i));
+        }
+        assertEquals(4294967295L, column.epochSecond(2));
+        assertEquals(values[2], type.deserializeBinary(deserializer(new byte[]{-1, -1, -1, -1})));
+    }
+
+    @Test
+    void GIVEN_date_and_date32_WHEN_readColumn_THEN_values_are_decoded_from_epoch_days() throws Exception {
+        ByteBuffer stream = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        stream.putShort((short) 0xFFFF).putShort((short) 0);
+        stream.putInt(-1).putInt(18000);
+
+        BinaryDeserializer deserializer = deserializer(toBytes(stream));
+        ColumnDate dates = (ColumnDate) read(type("date"), 2, deserializer);
+        ColumnDate dates32 = (ColumnDate) read(type("date32"), 2, deserializer);
+
+        assertEquals(LocalDate.ofEpochDay(65535), dates.value(0));
+        assertEquals(0, dates.epochDay(1));
+        assertEquals(LocalDate.ofEpochDay(-1), dates32.value(0));
+        assertEquals(java.sql.Date.valueOf(LocalDate.ofEpochDay(18000)), dates32.date(1));
+    }
+
+    private static IDataType<?, ?> type(String type) throws Exception {
+        return DataTypeFactory.get(type, SERVER_CONTEXT);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.roundTrip;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnFixedBinaryTest {
+
+    @Test
+    void GIVEN_uuid_column_WHEN_readColumn_THEN_bits_are_read_from_the_slab() throws Exception {
+        UUID first = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID second = new UUID(-1L, 42L);
+        IColumn column = roundTrip("uuid", first, second);
+
+        assertTrue(column instanceof ColumnFixedBinary);
+        ColumnFixedBinary uuids = (ColumnFixedBinary) column;
+        assertEquals(first, uuids.value(0));
+        assertEquals(second, uuids.value(1));
+        assertEquals(first.getMostSignificantBits(), uuids.mostSignificantBits(0));
+        assertEquals(first.getLeastSignificantBits(), uuids.leastSignificantBits(0));
+        assertEquals(-1L, uuids.mostSignificantBits(1));
+        assertEquals(42L, uuids.leastSignificantBits(1));
+    }
+
+    @Test
+    void GIVEN_ipv6_and_fixed_string_columns_WHEN_readColumn_THEN_values_are_sliced_from_the_slab() throws Exception {
+        BigInteger address = new BigInteger("20010db8000000000000000000000001", 16);
+        ColumnFixedBinary addresses = (ColumnFixedBinary) roundTrip("ipv6", BigInteger.ONE, address);
+        assertEquals(16, addresses.width());
+        assertEquals(BigInteger.ONE, addresses.value(0));
+        assertEquals(address, addresses.value(1));
+
+        ColumnFixedBinary strings = (ColumnFixedBinary) roundTrip("fixed_string(3)", "abc", "xyz");
+        assertEquals("xyz", strings.value(1));
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), strings.bytes(0));
+
+        ByteBuffer dst = ByteBuffer.allocate(4);
+        strings.copyTo(1, dst);
+        assertEquals(3, dst.position());
+        assertArrayEquals("xyz".getBytes(StandardCharsets.UTF_8), Arrays.copyOf(dst.array(), 3));
+    }
+
+    @Test
+    void GIVEN_ipv4_column_WHEN_readColumn_THEN_addresses_are_unsigned_ints() throws Exception {
+        IColumn column = roundTrip("ipv4", 0xC0A80001L, 1L);
+
+        assertTrue(column instanceof IPrimitiveColumn);
+        assertEquals(0xC0A80001L, column.value(0));
+        assertEquals(0xC0A80001L, ((IPrimitiveColumn) column).longValue(0));
+    }
+}
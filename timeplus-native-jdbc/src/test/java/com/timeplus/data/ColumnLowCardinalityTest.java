@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.read;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.roundTrip;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.toBytes;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.type;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnLowCardinalityTest {
+
+    @Test
+    void GIVEN_written_column_WHEN_readColumn_THEN_dictionary_and_indexes_are_kept() throws Exception {
+        ColumnLowCardinality column = (ColumnLowCardinality) roundTrip(
+                "low_cardinality(nullable(string))", "a", null, "b", "a");
+
+        assertEquals("a", column.value(0));
+        assertNull(column.value(1));
+        assertEquals("b", column.value(2));
+        assertEquals("a", column.value(3));
+        assertEquals(column.dictionaryIndex(0), column.dictionaryIndex(3));
+        assertEquals(0, column.dictionaryIndex(1));
+        assertTrue(column.dictionary() instanceof ColumnString);
+    }
+
+    @Test
+    void GIVEN_uint8_indexes_WHEN_readColumn_THEN_first_key_is_a_value_of_not_nullable_type() throws Exception {
+        // the insert column always writes uint64 indexes, so this layout is encoded by hand
+        ByteBuffer stream = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        stream.putLong(1);                                              // version
+        stream.putLong(IndexType.UInt8.getValue() | IndexType.HasAdditionalKeysBit.getValue());
+        stream.putLong(2).put((byte) 0).put((byte) 1).put((byte) 'x'); // keys "", "x"
+        stream.putLong(3).put((byte) 1).put((byte) 0).put((byte) 1);   // indexes
+
+        ColumnLowCardinality column = (ColumnLowCardinality) read(
+                type("low_cardinality(string)"), 3, toBytes(stream));
+
+        assertEquals("x", column.value(0));
+        assertEquals("", column.value(1));
+        assertEquals(1, column.dictionaryIndex(2));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.read;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.roundTrip;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.toBytes;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.type;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnMapTest {
+
+    @Test
+    void GIVEN_map_column_WHEN_readColumn_THEN_rows_are_views_of_the_key_and_value_columns() throws Exception {
+        Map<Object, Object> expected = new LinkedHashMap<>();
+        expected.put("a", 1);
+        expected.put("bc", 2);
+        IColumn column = roundTrip("map(string, int32)", expected, new HashMap<>());
+
+        Map<?, ?> first = (Map<?, ?>) column.value(0);
+        assertEquals(expected, first);
+        assertEquals(2, first.get("bc"));
+        assertNull(first.get("b"));
+        assertFalse(first.containsKey(1));
+
+        assertTrue(((Map<?, ?>) column.value(1)).isEmpty());
+    }
+
+    @Test
+    void GIVEN_duplicate_keys_WHEN_readColumn_THEN_the_last_entry_of_a_key_wins() throws Exception {
+        // a Map cannot hold duplicate keys, so the rows are encoded by hand:
+        // {a: 1, b: 2, a: 3}, {k0: 0, ..., k19: 19, k7: 20}, {x: 1, y: 2}
+        String[] keys = new String[3 + 21 + 2];
+        keys[0] = "a";
+        keys[1] = "b";
+        keys[2] = "a";
+        for (int i = 0; i < 20; i++) {
+            keys[3 + i] = "k" + i;
+        }
+        keys[23] = "k7";
+        keys[24] = "x";
+        keys[25] = "y";
+        ByteBuffer stream = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        stream.putLong(3).putLong(24).putLong(26);
+        for (String key : keys) {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            stream.put((byte) bytes.length).put(bytes);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            stream.putInt(i < 3 ? i + 1 : i < 24 ? i - 3 : i - 23);
+        }
+
+        IColumn column = read(type("map(string, int32)"), 3, toBytes(stream));
+
+        Map<?, ?> first = (Map<?, ?>) column.value(0);
+        assertEquals(3, first.get("a"));
+        assertEquals(2, first.size());
+        Map<?, ?> second = (Map<?, ?>) column.value(1);
+        assertEquals(20, second.get("k7"));
+        assertEquals(20, second.size());
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put("x", 1);
+        expected.put("y", 2);
+        assertEquals(expected, column.value(2));
+    }
+
+    @Test
+    void GIVEN_numeric_and_low_cardinality_keys_WHEN_compared_THEN_maps_equal_hash_maps() throws Exception {
+        Map<Object, Object> ints = new LinkedHashMap<>();
+        Map<Object, Object> strings = new LinkedHashMap<>();
+        for (int i = 0; i < 40; i++) {
+            ints.put(i * 7, "v" + i);
+            strings.put("k" + i, (double) i);
+        }
+
+        assertEquals(ints, roundTrip("map(int32, string)", ints).value(0));
+        assertEquals(40, ((Map<?, ?>) roundTrip("map(int32, string)", ints).value(0)).size());
+        assertEquals(strings, roundTrip("map(low_cardinality(string), float64)", strings).value(0));
+    }
+
+    @Test
+    void GIVEN_map_view_WHEN_modified_THEN_a_copy_is_modified() throws Exception {
+        Map<Object, Object> row = new HashMap<>();
+        row.put(7, 8);
+        IColumn column = roundTrip("map(int32, int32)", row);
+
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> map = (Map<Object, Object>) column.value(0);
+        assertEquals(8, map.put(7, 9));
+        map.put(1, 2);
+        assertEquals(9, map.get(7));
+        assertEquals(2, map.size());
+        assertEquals(8, ((Map<?, ?>) column.value(0)).get(7));
+    }
+}
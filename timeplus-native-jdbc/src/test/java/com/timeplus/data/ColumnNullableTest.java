@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.column;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.read;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.serialize;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.type;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnNullableTest {
+
+    @Test
+    void GIVEN_nullable_int64_column_WHEN_written_and_read_THEN_null_map_is_kept_with_unboxed_values()
+            throws Exception {
+        byte[] stream = serialize(column("nullable(int64)", 7L, null, -3L));
+        assertArrayEquals(new byte[]{0, 1, 0}, Arrays.copyOf(stream, 3));
+        assertEquals(3 + 3 * 8, stream.length);
+
+        IColumn column = read(type("nullable(int64)"), 3, stream);
+
+        assertTrue(column instanceof ColumnNullable);
+        assertFalse(column.isNull(0));
+        assertTrue(column.isNull(1));
+        assertEquals(7L, column.value(0));
+        assertNull(column.value(1));
+
+        IColumn nested = ((ColumnNullable) column).nested();
+        assertTrue(nested instanceof IPrimitiveColumn);
+        assertEquals(-3L, ((IPrimitiveColumn) nested).longValue(2));
+    }
+
+    @Test
+    void GIVEN_cleared_nullable_column_WHEN_written_again_THEN_only_new_rows_are_serialized() throws Exception {
+        IColumn column = column("nullable(int32)");
+        for (int i = 0; i < 20; i++) {
+            column.write(i % 2 == 0 ? null : i);
+        }
+        column.clear();
+        column.write(null);
+
+        assertArrayEquals(new byte[]{1, 0, 0, 0, 0}, serialize(column));
+    }
+}
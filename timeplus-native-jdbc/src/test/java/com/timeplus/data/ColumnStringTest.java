@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.roundTrip;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnStringTest {
+
+    @Test
+    void GIVEN_string_column_WHEN_readColumn_THEN_values_are_sliced_from_one_arena() throws Exception {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longValue.append("event-").append(i);
+        }
+        Object[] values = {"a", "", "\u65f6\u95f4", longValue.toString()};
+
+        IColumn column = roundTrip("string", values);
+
+        assertTrue(column instanceof ColumnString);
+        ColumnString strings = (ColumnString) column;
+        for (int i = 0; i < values.length; i++) {
+            byte[] expected = ((String) values[i]).getBytes(StandardCharsets.UTF_8);
+            assertEquals(values[i], strings.value(i));
+            assertEquals(expected.length, strings.length(i));
+            assertArrayEquals(expected, strings.bytes(i));
+
+            ByteBuffer slice = strings.slice(i);
+            byte[] sliced = new byte[slice.remaining()];
+            slice.get(sliced);
+            assertArrayEquals(expected, sliced);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.deserializer;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.toBytes;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.type;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.data.type.complex.DataTypeEnum16;
+import com.timeplus.data.type.complex.DataTypeEnum8;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+
+public class DataTypeEnumTest {
+
+    @Test
+    void GIVEN_enum8_with_negative_codes_WHEN_serialize_and_deserialize_THEN_names_map_to_codes() throws Exception {
+        DataTypeEnum8 type = (DataTypeEnum8) type("enum8('min' = -128, 'neg' = -1, 'zero' = 0, 'max' = 127)");
+
+        byte[] bytes = serialize(type, "min", "neg", "zero", "max");
+
+        assertArrayEquals(new byte[] {(byte) 0x80, (byte) 0xFF, 0, 0x7F}, bytes);
+        BinaryDeserializer deserializer = deserializer(bytes);
+        assertEquals("min", type.deserializeBinary(deserializer));
+        assertEquals("neg", type.deserializeBinary(deserializer));
+        assertEquals("zero", type.deserializeBinary(deserializer));
+        assertEquals("max", type.deserializeBinary(deserializer));
+    }
+
+    @Test
+    void GIVEN_enum16_with_the_extreme_codes_WHEN_serialize_and_deserialize_THEN_names_map_to_codes()
+            throws Exception {
+        DataTypeEnum16 type = (DataTypeEnum16) type("enum16('min' = -32768, 'neg' = -1, 'max' = 32767)");
+
+        byte[] bytes = serialize(type, "min", "neg", "max");
+
+        assertArrayEquals(new byte[] {0, (byte) 0x80, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F}, bytes);
+        BinaryDeserializer deserializer = deserializer(bytes);
+        assertEquals("min", type.deserializeBinary(deserializer));
+        assertEquals("neg", type.deserializeBinary(deserializer));
+        assertEquals("max", type.deserializeBinary(deserializer));
+    }
+
+    @Test
+    void GIVEN_duplicate_names_and_codes_WHEN_serialize_and_deserialize_THEN_the_first_mapping_wins()
+            throws Exception {
+        String[] names = {"a", "b", "a"};
+        DataTypeEnum8 enum8 = new DataTypeEnum8("enum8('a' = 1,'b' = 1,'a' = 2)", names, new Byte[] {1, 1, 2});
+        DataTypeEnum16 enum16 = new DataTypeEnum16("enum16('a' = 1,'b' = 1,'a' = 2)", names, new Short[] {1, 1, 2});
+
+        assertArrayEquals(new byte[] {1, 1}, serialize(enum8, "a", "b"));
+        assertArrayEquals(new byte[] {1, 0, 1, 0}, serialize(enum16, "a", "b"));
+
+        BinaryDeserializer deserializer = deserializer(new byte[] {1, 2});
+        assertEquals("a", enum8.deserializeBinary(deserializer));
+        assertEquals("a", enum8.deserializeBinary(deserializer));
+        deserializer = deserializer(new byte[] {1, 0, 2, 0});
+        assertEquals("a", enum16.deserializeBinary(deserializer));
+        assertEquals("a", enum16.deserializeBinary(deserializer));
+    }
+
+    @Test
+    void GIVEN_unmapped_code_WHEN_deserialize_THEN_throw_unknown_value() throws Exception {
+        DataTypeEnum8 enum8 = (DataTypeEnum8) type("enum8('a' = -1, 'b' = 1)");
+        DataTypeEnum16 enum16 = (DataTypeEnum16) type("enum16('a' = -1, 'b' = 1)");
+
+        SQLException e = assertThrows(SQLException.class, () -> enum8.deserializeBinary(deserializer(new byte[] {0})));
+        assertEquals("Unknown value 0 of " + enum8.name(), e.getMessage());
+
+        // a hole between the smallest and the largest code, and codes on either side of them
+        for (short code : new short[] {0, -2, 2}) {
+            byte[] bytes = {(byte) code, (byte) (code >> 8)};
+            e = assertThrows(SQLException.class, () -> enum16.deserializeBinary(deserializer(bytes)));
+            assertEquals("Unknown value " + code + " of " + enum16.name(), e.getMessage());
+        }
+    }
+
+    private static byte[] serialize(IDataType<String, String> type, String... values) throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(64);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        for (String value : values) {
+            type.serializeBinary(value, serializer);
+        }
+        serializer.flushToTarget(true);
+        return toBytes(writer);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.data;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.SERVER_CONTEXT;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.column;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.serialize;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.jdbc.TimeplusArray;
+import com.timeplus.jdbc.tool.FragmentBuffedReader;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+
+public class PrimitiveColumnTest {
+
+    @Test
+    void GIVEN_nested_primitive_columns_WHEN_serialize_THEN_same_layout_as_per_value_encoding() throws Exception {
+        IColumn longs = column("int64", 1L, -2L, Long.MAX_VALUE);
+        IColumn nullableInts = column("nullable(int32)", 1, null, 3);
+        IDataType<?, ?> float64 = DataTypeFactory.get("float64", SERVER_CONTEXT);
+        IColumn arrays = column("array(float64)",
+                new TimeplusArray(float64, new Object[] {1.5}),
+                new TimeplusArray(float64, new Object[0]),
+                new TimeplusArray(float64, new Object[] {2.5, 3.5}));
+
+        ByteBuffer expected = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        expected.putLong(1L).putLong(-2L).putLong(Long.MAX_VALUE);
+        expected.put((byte) 0).put((byte) 1).put((byte) 0).putInt(1).putInt(0).putInt(3);
+        expected.putLong(1).putLong(1).putLong(3).putDouble(1.5).putDouble(2.5).putDouble(3.5);
+
+        assertArrayEquals(toBytes(expected), serialize(longs, nullableInts, arrays));
+    }
+
+    @Test
+    void GIVEN_unsigned_columns_WHEN_readColumn_THEN_primitive_accessors_match_boxed_values() throws Exception {
+        ByteBuffer data = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        data.putLong(-1L).putLong(7L);
+        data.putInt(-1).putInt(7);
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(data)), false);
+
+        IColumn uint64 = ColumnFactory.readColumn("c", DataTypeFactory.get("uint64", SERVER_CONTEXT), 2, deserializer);
+        IColumn uint32 = ColumnFactory.readColumn("c", DataTypeFactory.get("uint32", SERVER_CONTEXT), 2, deserializer);
+
+        IPrimitiveColumn longs = (IPrimitiveColumn) uint64;
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), longs.value(0));
+        assertEquals(-1L, longs.longValue(0));
+        assertEquals(1.8446744073709552E19, longs.doubleValue(0));
+        assertEquals(BigInteger.valueOf(7), longs.value(1));
+
+        IPrimitiveColumn ints = (IPrimitiveColumn) uint32;
+        assertEquals(4294967295L, ints.value(0));
+        assertEquals(4294967295L, ints.longValue(0));
+        assertEquals(7, ints.intValue(1));
+    }
+
+    @Test
+    void GIVEN_decimal_columns_WHEN_write_and_readColumn_THEN_unscaled_values_round_trip() throws Exception {
+        IColumn decimal32 = column("decimal(9, 2)", new BigDecimal("1.235"), new BigDecimal("-0.5"), 7);
+        BigDecimal[] values = {new BigDecimal("123456789.123456789"), new BigDecimal("-0.000000001"),
+                new BigDecimal("999999999.999999999"), BigDecimal.ZERO};
+        IColumn decimal64 = column("decimal(18, 9)", (Object[]) values);
+
+        ByteBuffer expected = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        expected.putInt(124).putInt(-50).putInt(700);
+        expected.putLong(123456789123456789L).putLong(-1L).putLong(999999999999999999L).putLong(0L);
+        byte[] bytes = serialize(decimal32, decimal64);
+        assertArrayEquals(toBytes(expected), bytes);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(new FragmentBuffedReader(bytes), false);
+        IPrimitiveColumn read32 = (IPrimitiveColumn) ColumnFactory.readColumn(
+                "c", DataTypeFactory.get("decimal(9, 2)", SERVER_CONTEXT), 3, deserializer);
+        IPrimitiveColumn read64 = (IPrimitiveColumn) ColumnFactory.readColumn(
+                "c", DataTypeFactory.get("decimal(18, 9)", SERVER_CONTEXT), 4, deserializer);
+
+        assertEquals(new BigDecimal("1.24"), read32.value(0));
+        assertEquals(new BigDecimal("-0.50"), read32.value(1));
+        assertEquals(7, read32.intValue(2));
+        for (int i = 0; i < values.length; i++) {
+            BigDecimal value = (BigDecimal) read64.value(i);
+            assertEquals(0, values[i].compareTo(value));
+            assertEquals(9, value.scale());
+            assertEquals(value.longValue(), read64.longValue(i));
+            assertEquals(value.doubleValue(), read64.doubleValue(i));
+            assertEquals(value.floatValue(), read64.floatValue(i));
+        }
+    }
+
+    @Test
+    void GIVEN_wide_integer_columns_WHEN_write_and_readColumn_THEN_same_as_big_integer_encoding() throws Exception {
+        BigInteger two = BigInteger.valueOf(2);
+        Object[][] rows = {
+                {BigInteger.ONE.negate(), two.pow(100), two.pow(127).negate(), Long.MIN_VALUE, -5},
+                {two.pow(128).subtract(BigInteger.ONE), BigInteger.valueOf(5), two.pow(64), -1L},
+                {two.pow(255).negate(), two.pow(200).add(BigInteger.valueOf(3)), 42L},
+                {two.pow(256).subtract(BigInteger.ONE), BigInteger.ZERO, Long.MAX_VALUE},
+        };
+        BigInteger[][] expectedRows = {
+                {BigInteger.ONE.negate(), two.pow(100), two.pow(127).negate(), BigInteger.valueOf(Long.MIN_VALUE),
+                        BigInteger.valueOf(-5)},
+                {two.pow(128).subtract(BigInteger.ONE), BigInteger.valueOf(5), two.pow(64),
+                        two.pow(64).subtract(BigInteger.ONE)},
+                {two.pow(255).negate(), two.pow(200).add(BigInteger.valueOf(3)), BigInteger.valueOf(42)},
+                {two.pow(256).subtract(BigInteger.ONE), BigInteger.ZERO, BigInteger.valueOf(Long.MAX_VALUE)},
+        };
+        String[] types = {"int128", "uint128", "int256", "uint256"};
+
+        for (int t = 0; t < types.length; t++) {
+            IDataType<?, ?> type = DataTypeFactory.get(types[t], SERVER_CONTEXT);
+            ByteArrayWriter writer = new ByteArrayWriter(1024);
+            BinarySerializer serializer = new BinarySerializer(writer, false);
+            for (BigInteger value : expectedRows[t]) {
+                serializeBinary(type, value, serializer);
+            }
+            serializer.flushToTarget(true);
+
+            byte[] bytes = serialize(column(types[t], rows[t]));
+            assertArrayEquals(toBytes(writer), bytes, types[t]);
+
+            IPrimitiveColumn column = (IPrimitiveColumn) ColumnFactory.readColumn("c", type, rows[t].length,
+                    new BinaryDeserializer(new FragmentBuffedReader(bytes), false));
+            for (int i = 0; i < rows[t].length; i++) {
+                BigInteger value = expectedRows[t][i];
+                assertEquals(value, column.value(i), types[t]);
+                assertEquals(value.longValue(), column.longValue(i));
+                assertEquals(value.doubleValue(), column.doubleValue(i));
+            }
+        }
+    }
+
+    // all four wide integer types serialize BigInteger values
+    @SuppressWarnings("unchecked")
+    private static void serializeBinary(IDataType<?, ?> type, BigInteger value, BinarySerializer serializer)
+            throws Exception {
+        ((IDataType<BigInteger, ?>) type).serializeBinary(value, serializer);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc;
+
+import com.timeplus.data.Block;
+import com.timeplus.data.IColumn;
+import com.timeplus.misc.CheckedIterator;
+import com.timeplus.protocol.DataResponse;
+import com.timeplus.settings.TimeplusConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.roundTrip;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeplusResultSetTest {
+
+    private static final String VALUE = "\u65f6\u95f4";
+
+    @Test
+    public void successfullyGetBytesInConnectionCharset() throws Exception {
+        for (String type : Arrays.asList("string", "fixed_string(6)")) {
+            for (Charset charset : Arrays.asList(StandardCharsets.UTF_8, StandardCharsets.UTF_16)) {
+                // the column is decoded as utf-8 either way
+                TimeplusResultSet rs = resultSet(TimeplusConfig.Builder.builder().charset(charset).build(),
+                        roundTrip(type, VALUE));
+                assertTrue(rs.next());
+
+                byte[] expected = VALUE.getBytes(charset);
+                assertArrayEquals(expected, rs.getBytes(1));
+                ByteBuffer dst = ByteBuffer.allocate(16);
+                assertEquals(expected.length, rs.getBytes(1, dst));
+                assertArrayEquals(expected, Arrays.copyOf(dst.array(), dst.position()));
+            }
+        }
+    }
+
+    private static TimeplusResultSet resultSet(TimeplusConfig cfg, IColumn column) {
+        Block block = new Block(1, new IColumn[] {column});
+        CheckedIterator<DataResponse, SQLException> data = new CheckedIterator<DataResponse, SQLException>() {
+            private boolean consumed;
+
+            @Override
+            public boolean hasNext() {
+                return !consumed;
+            }
+
+            @Override
+            public DataResponse next() {
+                consumed = true;
+                return new DataResponse("", block);
+            }
+        };
+        return new TimeplusResultSet(null, cfg, "default", "t", block, data);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.benchmark;
+
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.buffer.CompressedBuffedReader;
+import com.timeplus.buffer.CompressedBuffedWriter;
+import com.timeplus.jdbc.tool.FragmentBuffedReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a recorded stream of compressed frames, run with the gc profiler to compare the allocation rate
+ * (`gc.alloc.rate.norm`) against the size of the stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CompressedReadBenchmark {
+
+    private static final int FRAMES = 64;
+    private static final int FRAME_BYTES = 64 * 1024;
+
+    private byte[] stream;
+    private byte[] chunk;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CompressedReadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        // half random, half repeated bytes, so frames neither blow up nor vanish after compression
+        byte[] data = new byte[FRAMES * FRAME_BYTES];
+        Random random = new Random(42);
+        for (int i = 0; i < data.length; i += 2) {
+            data[i] = (byte) random.nextInt();
+        }
+
+        ByteArrayWriter target = new ByteArrayWriter(FRAME_BYTES);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(FRAME_BYTES, target);
+        writer.writeBinary(data, 0, data.length);
+        writer.flushToTarget(true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : target.getBufferList()) {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        stream = out.toByteArray();
+        chunk = new byte[4096];
+    }
+
+    @Benchmark
+    public void readStream(Blackhole blackhole) throws IOException {
+        CompressedBuffedReader reader = new CompressedBuffedReader(new FragmentBuffedReader(stream));
+        for (int i = 0; i < FRAMES * FRAME_BYTES / chunk.length; i++) {
+            reader.readBinary(chunk);
+            blackhole.consume(chunk);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.benchmark;
+
+import com.timeplus.buffer.ByteArrayReader;
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.client.NativeContext;
+import com.timeplus.data.DataTypeFactory;
+import com.timeplus.data.IDataType;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+import com.timeplus.settings.TimeplusConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes and encodes {@link #ROWS} values of an enum16 with 1000 values and an enum8 with 256 values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EnumLookupBenchmark {
+
+    private static final int ROWS = 65536;
+
+    @Param({"enum8", "enum16"})
+    private String kind;
+
+    @SuppressWarnings("rawtypes")
+    private IDataType type;
+    private byte[] encoded;
+    private String[] names;
+    private ByteArrayWriter writer;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(EnumLookupBenchmark.class.getSimpleName())
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        NativeContext.ServerContext context = new NativeContext.ServerContext(1, 1, 54380,
+                TimeplusConfig.Builder.builder().build(), ZoneId.systemDefault(), "bench");
+
+        boolean enum8 = kind.equals("enum8");
+        int size = enum8 ? 256 : 1000;
+        int first = enum8 ? Byte.MIN_VALUE : -500;
+        StringBuilder definition = new StringBuilder(kind).append('(');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                definition.append(", ");
+            }
+            definition.append("'value_").append(i).append("' = ").append(first + i);
+        }
+        type = DataTypeFactory.get(definition.append(')').toString(), context);
+
+        ByteBuffer codes = ByteBuffer.allocate(ROWS * type.byteSize()).order(ByteOrder.LITTLE_ENDIAN);
+        names = new String[ROWS];
+        for (int r = 0; r < ROWS; r++) {
+            int i = (int) ((r * 2654435761L) % size);
+            if (enum8) {
+                codes.put((byte) (first + i));
+            } else {
+                codes.putShort((short) (first + i));
+            }
+            names[r] = "value_" + i;
+        }
+        encoded = codes.array();
+        writer = new ByteArrayWriter(ROWS * 2);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return type.deserializeBinaryBulk(ROWS,
+                new BinaryDeserializer(new ByteArrayReader(encoded, 0, encoded.length), false));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object encode() throws Exception {
+        writer.reset();
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        for (String name : names) {
+            type.serializeBinary(name, serializer);
+        }
+        serializer.flushToTarget(true);
+        return writer;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.benchmark;
+
+import com.timeplus.buffer.ByteArrayReader;
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.client.NativeContext;
+import com.timeplus.data.Block;
+import com.timeplus.data.ColumnFactory;
+import com.timeplus.data.ColumnWriterBuffer;
+import com.timeplus.data.DataTypeFactory;
+import com.timeplus.data.IColumn;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+import com.timeplus.settings.TimeplusConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a block of {@link #COLUMNS} int64, float64 and string columns and reads two of them, with and without
+ * the `lazy_decode` setting.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LazyBlockDecodeBenchmark {
+
+    private static final int COLUMNS = 48;
+    private static final int ROWS = 65536;
+    private static final String[] TYPES = {"int64", "float64", "string"};
+
+    private byte[] encoded;
+
+    @Param({"false", "true"})
+    private boolean lazyDecode;
+
+    private NativeContext.ServerContext context;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LazyBlockDecodeBenchmark.class.getSimpleName())
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        context = new NativeContext.ServerContext(1, 1, 54380,
+                TimeplusConfig.Builder.builder().lazyDecode(lazyDecode).build(), ZoneId.systemDefault(), "bench");
+
+        IColumn[] columns = new IColumn[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            columns[c] = ColumnFactory.createColumn("c" + c,
+                    DataTypeFactory.get(TYPES[c % TYPES.length], context), new Object[0]);
+            columns[c].setColumnWriterBuffer(new ColumnWriterBuffer());
+        }
+        Block block = new Block(0, columns);
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                Object value = c % 3 == 0 ? (Object) (long) r : c % 3 == 1 ? (Object) (r / 3.0) : "event-" + r;
+                block.setObject(c, value);
+            }
+            block.appendRow();
+        }
+
+        ByteArrayWriter writer = new ByteArrayWriter(1024 * 1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        block.writeTo(serializer);
+        serializer.flushToTarget(true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : writer.getBufferList()) {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        encoded = out.toByteArray();
+    }
+
+    @Benchmark
+    public Object readTwoColumns() throws Exception {
+        Block block = Block.readFrom(
+                new BinaryDeserializer(new ByteArrayReader(encoded, 0, encoded.length), false), context);
+        block.getColumn(0).value(ROWS - 1);
+        return block.getColumn(2).value(ROWS - 1);
+    }
+}
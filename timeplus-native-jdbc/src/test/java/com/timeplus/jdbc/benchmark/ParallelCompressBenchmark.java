@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.benchmark;
+
+import com.timeplus.buffer.BuffedWriter;
+import com.timeplus.buffer.CompressedBuffedWriter;
+import com.timeplus.buffer.CompressionMethod;
+import com.timeplus.settings.TimeplusDefines;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses one INSERT block of `frames` frames, `compressionParallelism = 0` compresses on the calling thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ParallelCompressBenchmark {
+
+    @Param({"1", "8", "64"})
+    private int frames;
+
+    @Param({"0", "4", "16"})
+    private int compressionParallelism;
+
+    private byte[] block;
+    private CompressedBuffedWriter writer;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ParallelCompressBenchmark.class.getSimpleName())
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        int capacity = TimeplusDefines.SOCKET_SEND_BUFFER_BYTES;
+        // small alphabet, compresses like a typical numeric column
+        block = new byte[frames * capacity];
+        Random random = new Random(42);
+        for (int i = 0; i < block.length; i++) {
+            block[i] = (byte) random.nextInt(16);
+        }
+
+        ForkJoinPool pool = compressionParallelism > 0 ? CompressedBuffedWriter.sharedPool(compressionParallelism) : null;
+        writer = new CompressedBuffedWriter(capacity, new DiscardWriter(), CompressionMethod.LZ4, 0, pool);
+    }
+
+    @Benchmark
+    public void compressBlock() throws IOException {
+        writer.writeBinary(block, 0, block.length);
+        writer.flushToTarget(true);
+    }
+
+    private static class DiscardWriter implements BuffedWriter {
+
+        @Override
+        public void writeBinary(byte byt) {
+        }
+
+        @Override
+        public void writeBinary(byte[] bytes, int offset, int length) {
+        }
+
+        @Override
+        public void flushToTarget(boolean force) {
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.benchmark;
+
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.buffer.CompressedBuffedWriter;
+import com.timeplus.jdbc.tool.FragmentBuffedReader;
+import com.timeplus.serde.BinaryDeserializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a compressed Int32, Int64 and Float64 column of {@link #ROWS} rows, either with one
+ * {@link BinaryDeserializer} call per value or with the bulk reads used by the column types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PrimitiveDecodeBenchmark {
+
+    private static final int ROWS = 1024 * 1024;
+    private static final int FRAME_BYTES = 1024 * 1024;
+
+    private byte[] intStream;
+    private byte[] longStream;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PrimitiveDecodeBenchmark.class.getSimpleName())
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        ByteBuffer ints = ByteBuffer.allocate(ROWS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer longs = ByteBuffer.allocate(ROWS * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < ROWS; i++) {
+            ints.putInt(random.nextInt(1000));
+            longs.putLong(random.nextInt(1000));
+        }
+        intStream = compress(ints.array());
+        // doubles are decoded from the same bits, the value does not matter to the decoder
+        longStream = compress(longs.array());
+    }
+
+    @Benchmark
+    public long decodeInt() throws IOException {
+        BinaryDeserializer deserializer = deserializer(intStream);
+        long sum = 0;
+        for (int i = 0; i < ROWS; i++) {
+            sum += deserializer.readInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodeLong() throws IOException {
+        BinaryDeserializer deserializer = deserializer(longStream);
+        long sum = 0;
+        for (int i = 0; i < ROWS; i++) {
+            sum += deserializer.readLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double decodeDouble() throws IOException {
+        BinaryDeserializer deserializer = deserializer(longStream);
+        double sum = 0;
+        for (int i = 0; i < ROWS; i++) {
+            sum += deserializer.readDouble();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] decodeInts() throws IOException {
+        int[] values = new int[ROWS];
+        deserializer(intStream).readInts(values, ROWS);
+        return values;
+    }
+
+    @Benchmark
+    public long[] decodeLongs() throws IOException {
+        long[] values = new long[ROWS];
+        deserializer(longStream).readLongs(values, ROWS);
+        return values;
+    }
+
+    @Benchmark
+    public double[] decodeDoubles() throws IOException {
+        double[] values = new double[ROWS];
+        deserializer(longStream).readDoubles(values, ROWS);
+        return values;
+    }
+
+    private static BinaryDeserializer deserializer(byte[] stream) {
+        BinaryDeserializer deserializer = new BinaryDeserializer(new FragmentBuffedReader(stream), true);
+        deserializer.maybeEnableCompressed();
+        return deserializer;
+    }
+
+    private static byte[] compress(byte[] data) throws IOException {
+        ByteArrayWriter target = new ByteArrayWriter(FRAME_BYTES);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(FRAME_BYTES, target);
+        writer.writeBinary(data, 0, data.length);
+        writer.flushToTarget(true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : target.getBufferList()) {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.benchmark;
+
+import com.timeplus.buffer.SocketBuffedWriter;
+import com.timeplus.client.NativeContext;
+import com.timeplus.protocol.QueryRequest;
+import com.timeplus.serde.BinarySerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends small query requests over a loopback socket, `writeBufferSize = 1` behaves like the former
+ * unbuffered writer which issued one socket write per serialized field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SocketWriteBenchmark {
+
+    @Param({"1", "65536"})
+    private int writeBufferSize;
+
+    private ServerSocket server;
+    private Socket client;
+    private Thread sink;
+    private SocketBuffedWriter writer;
+    private BinarySerializer serializer;
+    private QueryRequest request;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(SocketWriteBenchmark.class.getSimpleName())
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+        client.setTcpNoDelay(true);
+
+        Socket accepted = server.accept();
+        sink = new Thread(() -> {
+            byte[] discard = new byte[64 * 1024];
+            try (InputStream in = accepted.getInputStream()) {
+                while (in.read(discard) >= 0) {
+                    // drop everything
+                }
+            } catch (IOException ignore) {
+                // socket closed by tear down
+            }
+        });
+        sink.setDaemon(true);
+        sink.start();
+
+        writer = new SocketBuffedWriter(client, writeBufferSize);
+        serializer = new BinarySerializer(writer, true);
+        request = new QueryRequest("bench-query-id",
+                new NativeContext.ClientContext("[::ffff:127.0.0.1]:0", "localhost", "Timeplus client"),
+                QueryRequest.STAGE_COMPLETE, true, "SELECT 1");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writer.release();
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void sendSmallQuery() throws Exception {
+        request.writeTo(serializer);
+        serializer.flushToTarget(true);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.statement;
+
+import com.timeplus.client.NativeContext;
+import com.timeplus.data.Block;
+import com.timeplus.data.ColumnFactory;
+import com.timeplus.data.IColumn;
+import com.timeplus.jdbc.TimeplusConnection;
+import com.timeplus.settings.TimeplusConfig;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.SQLException;
+
+import static com.timeplus.jdbc.tool.ColumnTestSupport.SERVER_CONTEXT;
+import static com.timeplus.jdbc.tool.ColumnTestSupport.type;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeplusPreparedInsertStatementTest {
+
+    private static final String INSERT = "INSERT INTO t VALUES (?)";
+    private static final NativeContext CONTEXT = new NativeContext(null, SERVER_CONTEXT, null);
+
+    @Test
+    public void successfullyAbortInsertWhenBlockSentAheadFails() throws Exception {
+        TimeplusConnection connection = connection();
+        Mockito.doThrow(new SQLException("broken")).when(connection).sendInsertData(Mockito.any(Block.class));
+
+        TimeplusPreparedInsertStatement statement = new TimeplusPreparedInsertStatement(INSERT.indexOf('('),
+                INSERT, connection, CONTEXT);
+        statement.setObject(1, 1);
+        // a full block, sent ahead by the background sender
+        statement.addBatch();
+
+        assertEquals("broken", assertThrows(SQLException.class, statement::executeBatch).getMessage());
+        Mockito.verify(connection).abortInsertRequest();
+        Mockito.verify(connection, Mockito.never()).endInsertRequest();
+
+        // the INSERT is gone already, closing must not end it
+        statement.close();
+        Mockito.verify(connection, Mockito.never()).endInsertRequest();
+        Mockito.verify(connection, Mockito.never()).sendInsertRequest(Mockito.any(Block.class));
+    }
+
+    @Test
+    public void successfullyAbortInsertWhenClosedAfterFailure() throws Exception {
+        TimeplusConnection connection = connection();
+        Mockito.doThrow(new SQLException("broken")).when(connection).sendInsertData(Mockito.any(Block.class));
+
+        TimeplusPreparedInsertStatement statement = new TimeplusPreparedInsertStatement(INSERT.indexOf('('),
+                INSERT, connection, CONTEXT);
+        statement.setObject(1, 1);
+        statement.addBatch();
+
+        assertEquals("broken", assertThrows(SQLException.class, statement::close).getMessage());
+        Mockito.verify(connection).abortInsertRequest();
+        Mockito.verify(connection, Mockito.never()).endInsertRequest();
+    }
+
+    private static TimeplusConnection connection() throws SQLException {
+        TimeplusConnection connection = Mockito.mock(TimeplusConnection.class);
+        Mockito.when(connection.cfg()).thenReturn(TimeplusConfig.Builder.builder().insertBlockRows(1).build());
+        Mockito.when(connection.getSampleBlock(Mockito.anyString())).thenAnswer(invocation -> {
+            IColumn column = ColumnFactory.createColumn("a", type("int32"), new Object[0]);
+            return new Block(0, new IColumn[] {column});
+        });
+        return connection;
+    }
+}
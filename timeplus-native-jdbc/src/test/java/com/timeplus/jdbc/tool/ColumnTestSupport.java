@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.jdbc.tool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import com.timeplus.buffer.ByteArrayReader;
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.client.NativeContext;
+import com.timeplus.data.ColumnFactory;
+import com.timeplus.data.ColumnWriterBuffer;
+import com.timeplus.data.DataTypeFactory;
+import com.timeplus.data.IColumn;
+import com.timeplus.data.IDataType;
+import com.timeplus.serde.BinaryDeserializer;
+import com.timeplus.serde.BinarySerializer;
+import com.timeplus.settings.TimeplusConfig;
+
+/**
+ * Encodes rows the way INSERT does and reads them back the way a result block is read, for the column tests.
+ */
+public final class ColumnTestSupport {
+
+    public static final NativeContext.ServerContext SERVER_CONTEXT = serverContext(ZoneId.systemDefault());
+
+    private ColumnTestSupport() {
+    }
+
+    public static NativeContext.ServerContext serverContext(ZoneId timeZone) {
+        return serverContext(TimeplusConfig.Builder.builder().build(), timeZone);
+    }
+
+    public static NativeContext.ServerContext serverContext(TimeplusConfig config, ZoneId timeZone) {
+        return new NativeContext.ServerContext(1, 1, 54380, config, timeZone, "test");
+    }
+
+    public static IDataType<?, ?> type(String type) throws SQLException {
+        return DataTypeFactory.get(type, SERVER_CONTEXT);
+    }
+
+    /**
+     * A column for insert holding {@code rows}.
+     */
+    public static IColumn column(String type, Object... rows) throws IOException, SQLException {
+        return column(type(type), rows);
+    }
+
+    public static IColumn column(IDataType<?, ?> type, Object... rows) throws IOException, SQLException {
+        IColumn column = ColumnFactory.createColumn("c", type, new Object[0]);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        for (Object row : rows) {
+            column.write(row);
+        }
+        return column;
+    }
+
+    /**
+     * The data of the columns as sent in a block, without the column names and types.
+     */
+    public static byte[] serialize(IColumn... columns) throws IOException, SQLException {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        for (IColumn column : columns) {
+            column.SerializeBulkPrefix(serializer);
+            column.SerializeBulk(serializer, true);
+            column.SerializeBulkSuffix(serializer);
+        }
+        serializer.flushToTarget(true);
+        return toBytes(writer);
+    }
+
+    public static byte[] toBytes(ByteArrayWriter writer) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : writer.getBufferList()) {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * The bytes put into a heap buffer so far.
+     */
+    public static byte[] toBytes(ByteBuffer buffer) {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public static BinaryDeserializer deserializer(byte[] stream) {
+        return new BinaryDeserializer(new ByteArrayReader(stream, 0, stream.length), false);
+    }
+
+    /**
+     * Read a column of {@code rows} rows from {@code stream} like {@code Block.readFrom} does.
+     */
+    public static IColumn read(IDataType<?, ?> type, int rows, byte[] stream) throws IOException, SQLException {
+        return read(type, rows, deserializer(stream));
+    }
+
+    public static IColumn read(IDataType<?, ?> type, int rows, BinaryDeserializer deserializer)
+            throws IOException, SQLException {
+        type.deserializeBinaryPrefix(rows, deserializer);
+        IColumn column = ColumnFactory.readColumn("c", type, rows, deserializer);
+        type.deserializeBinarySuffix(rows, deserializer);
+        return column;
+    }
+
+    /**
+     * Write {@code rows} with the insert column of the type and read them back.
+     */
+    public static IColumn roundTrip(String type, Object... rows) throws IOException, SQLException {
+        return read(type(type), rows.length, serialize(column(type, rows)));
+    }
+}
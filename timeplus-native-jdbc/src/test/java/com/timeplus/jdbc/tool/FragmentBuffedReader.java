@@ -36,9 +36,9 @@ public class FragmentBuffedReader implements BuffedReader {
     }
 
     @Override
-    public int readBinary(byte[] bytes) throws IOException {
+    public int readBinary(byte[] bytes, int offset, int length) throws IOException {
 
-        for (int i = 0; i < bytes.length; ) {
+        for (int i = 0; i < length; ) {
             if (bytesPosition == fragments[fragmentPos].length) {
                 fragmentPos++;
                 bytesPosition = 0;
@@ -47,16 +47,16 @@ public class FragmentBuffedReader implements BuffedReader {
 
             byte[] fragment = fragments[fragmentPos];
 
-            int pending = bytes.length - i;
+            int pending = length - i;
             int fillLength = Math.min(pending, fragment.length - bytesPosition);
 
             if (fillLength > 0) {
-                System.arraycopy(fragment, bytesPosition, bytes, i, fillLength);
+                System.arraycopy(fragment, bytesPosition, bytes, offset + i, fillLength);
 
                 i += fillLength;
                 bytesPosition += fillLength;
             }
         }
-        return bytes.length;
+        return length;
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.misc;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneOffsetCacheTest {
+
+    @Test
+    public void testOffsetAroundTransitions() {
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        ZoneRules rules = zone.getRules();
+        ZoneOffsetCache cache = new ZoneOffsetCache(zone);
+
+        // 2021-03-28T01:00:00Z and 2021-10-31T01:00:00Z, visited forwards, backwards and exactly at the transition
+        long spring = 1616893200L;
+        long autumn = 1635642000L;
+        long[] seconds = {spring - 1, spring, spring + 1, spring - 1, autumn, autumn - 1, autumn + 3600,
+                spring, -1L, 0L, 4102444800L, spring - 1};
+        for (long second : seconds) {
+            assertEquals(rules.getOffset(Instant.ofEpochSecond(second)), cache.offset(second), "at " + second);
+        }
+    }
+
+    @Test
+    public void testFixedOffset() {
+        ZoneOffsetCache cache = new ZoneOffsetCache(ZoneId.of("UTC"));
+        assertEquals(0, cache.offset(Long.MIN_VALUE / 1000).getTotalSeconds());
+        assertEquals(0, cache.offset(1616893200L).getTotalSeconds());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.serde;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.timeplus.buffer.ByteArrayWriter;
+import com.timeplus.buffer.CompressedBuffedWriter;
+import com.timeplus.jdbc.tool.FragmentBuffedReader;
+
+class BinaryDeserializerTest {
+
+    @Test
+    void WHEN_readBulk_across_frames_THEN_reconstruct_same_values() throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 10; i++) {
+            data.putLong(i * 1000000007L);
+        }
+        for (int i = 0; i < 10; i++) {
+            data.putInt(-i);
+        }
+        data.put((byte) 42);
+        for (int i = 0; i < 10; i++) {
+            data.putDouble(i / 3.0);
+        }
+        for (int i = 0; i < 3; i++) {
+            data.putShort((short) (i - 1));
+        }
+
+        // 13 byte frames, so most values are split between two frames
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(compress(data.array(), data.position(), 13)), true);
+        deserializer.maybeEnableCompressed();
+
+        long[] longs = new long[10];
+        deserializer.readLongs(longs, 10);
+        int[] ints = new int[10];
+        deserializer.readInts(ints, 10);
+        Assertions.assertEquals(42, deserializer.readByte());
+        double[] doubles = new double[10];
+        deserializer.readDoubles(doubles, 10);
+        short[] shorts = new short[3];
+        deserializer.readShorts(shorts, 3);
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(i * 1000000007L, longs[i]);
+            Assertions.assertEquals(-i, ints[i]);
+            Assertions.assertEquals(i / 3.0, doubles[i]);
+        }
+        Assertions.assertArrayEquals(new short[] {-1, 0, 1}, shorts);
+    }
+
+    private static byte[] compress(byte[] data, int length, int frameBytes) throws IOException {
+        ByteArrayWriter target = new ByteArrayWriter(1024);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(frameBytes, target);
+        writer.writeBinary(data, 0, length);
+        writer.flushToTarget(true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : target.getBufferList()) {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        return out.toByteArray();
+    }
+}
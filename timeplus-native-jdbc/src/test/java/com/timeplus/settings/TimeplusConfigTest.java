@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -92,4 +93,20 @@ class TimeplusConfigTest {
                 .build();
         assertEquals("haha", cfg.settings().get(userDefined));
     }
+
+    @Test
+    public void testCompressionMethod() {
+        TimeplusConfig cfg = TimeplusConfig.Builder.builder().build();
+        assertEquals("lz4", cfg.compressionMethod());
+
+        cfg = TimeplusConfig.Builder.builder()
+                .withJdbcUrl("jdbc:timeplus://127.0.0.1:8463/default?compression_method=ZSTD")
+                .build();
+        assertEquals("zstd", cfg.compressionMethod());
+        assertEquals("ZSTD", cfg.settings().get(SettingKey.network_compression_method));
+        assertFalse(cfg.settings().containsKey(SettingKey.compression_method));
+
+        cfg = cfg.withSettings(Collections.singletonMap(SettingKey.compression_method, "brotli"));
+        assertEquals("lz4", cfg.compressionMethod());
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.stream;
+
+import com.timeplus.data.Block;
+import com.timeplus.data.IColumn;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InsertBlockSenderTest {
+
+    @Test
+    public void successfullySendBlocksInOrderWithinLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> sent = new CopyOnWriteArrayList<>();
+        InsertBlockSender sender = new InsertBlockSender(block -> {
+            awaitQuietly(release);
+            sent.add(block.rowCnt());
+        }, 2).start();
+
+        sender.send(block(1));
+        sender.send(block(2));
+
+        AtomicBoolean third = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            try {
+                sender.send(block(3));
+                third.set(true);
+            } catch (SQLException ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+        producer.start();
+        Thread.sleep(50);
+        // two blocks in flight, the third waits for room
+        assertFalse(third.get());
+
+        release.countDown();
+        producer.join(5000);
+        assertTrue(third.get());
+        assertEquals(6, sender.finish());
+        assertEquals(Arrays.asList(1, 2, 3), sent);
+
+        sender.send(block(4));
+        assertEquals(4, sender.finish());
+        sender.close();
+    }
+
+    @Test
+    public void successfullyRethrowSendError() throws Exception {
+        InsertBlockSender sender = new InsertBlockSender(block -> {
+            throw new SQLException("broken");
+        }, 1).start();
+
+        sender.send(block(1));
+        waitFor(() -> {
+            try {
+                sender.send(block(2));
+                return false;
+            } catch (SQLException ex) {
+                assertEquals("broken", ex.getMessage());
+                return true;
+            }
+        });
+        assertEquals(0, sender.finish());
+        sender.close();
+        assertThrows(SQLException.class, () -> sender.send(block(3)));
+    }
+
+    private static Block block(int rows) {
+        return new Block(rows, new IColumn[0]);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+}
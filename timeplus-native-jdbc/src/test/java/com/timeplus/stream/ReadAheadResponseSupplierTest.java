@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.stream;
+
+import com.timeplus.exception.TimeplusSQLException;
+import com.timeplus.protocol.EOFStreamResponse;
+import com.timeplus.protocol.ProgressResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadAheadResponseSupplierTest {
+
+    @Test
+    public void successfullyReadAheadWithinLimits() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        AtomicInteger aborts = new AtomicInteger();
+        ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> {
+            bytes.addAndGet(100);
+            return reads.incrementAndGet() <= 5 ? new ProgressResponse(reads.get(), 0, 0, 0, 0) : EOFStreamResponse.INSTANCE;
+        }, bytes::get, 3, 1000, aborts::incrementAndGet).start();
+
+        waitFor(() -> reads.get() == 3);
+        Thread.sleep(50);
+        assertEquals(3, reads.get());
+
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, ((ProgressResponse) supplier.get()).newRows());
+        }
+        assertSame(EOFStreamResponse.INSTANCE, supplier.get());
+        supplier.close();
+        // the whole stream was read, the connection is kept
+        assertEquals(0, aborts.get());
+    }
+
+    @Test
+    public void successfullyLimitReadAheadBytes() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> {
+            bytes.addAndGet(600);
+            reads.incrementAndGet();
+            return new ProgressResponse(1, 0, 0, 0, 0);
+        }, bytes::get, 100, 1000, () -> { }).start();
+
+        waitFor(() -> reads.get() == 2);
+        Thread.sleep(50);
+        assertEquals(2, reads.get());
+
+        supplier.get();
+        waitFor(() -> reads.get() == 3);
+        supplier.close();
+        // closed, the responses read ahead are dropped
+        assertNull(supplier.get());
+    }
+
+    @Test
+    public void successfullyRethrowErrorInOrder() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> {
+            if (reads.incrementAndGet() == 1) {
+                return new ProgressResponse(1, 0, 0, 0, 0);
+            }
+            throw new SQLException("broken");
+        }, () -> 0, 4, 1000, () -> { }).start();
+
+        assertTrue(supplier.get() instanceof ProgressResponse);
+        assertEquals("broken", assertThrows(SQLException.class, supplier::get).getMessage());
+        supplier.close();
+    }
+
+    @Test
+    public void successfullyRethrowErrorOnEveryLaterGet() throws Exception {
+        AtomicInteger aborts = new AtomicInteger();
+        ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> {
+            throw new SQLException("broken");
+        }, () -> 0, 4, 1000, aborts::incrementAndGet).start();
+
+        assertEquals("broken", assertThrows(SQLException.class, supplier::get).getMessage());
+        // the thread is gone, a later call must not wait for it
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertEquals("broken", assertThrows(SQLException.class, supplier::get).getMessage()));
+        supplier.close();
+        // the stream was not read to its end
+        assertEquals(1, aborts.get());
+    }
+
+    @Test
+    public void successfullyEndAfterServerException() throws Exception {
+        AtomicInteger aborts = new AtomicInteger();
+        ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> {
+            throw new TimeplusSQLException(394, "QUERY_WAS_CANCELLED");
+        }, () -> 0, 4, 1000, aborts::incrementAndGet).start();
+
+        assertThrows(TimeplusSQLException.class, supplier::get);
+        supplier.close();
+        // the server ended the query, the connection is kept
+        assertEquals(0, aborts.get());
+    }
+
+    @Test
+    public void successfullyCloseWhileSourceIsBlocked() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // closed by the abort of the supplier, and in finally when an assertion fails before
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+            try (Socket peer = server.accept()) {
+                // one response and then nothing, like a streaming query without new rows
+                peer.getOutputStream().write(1);
+                closeWhileSourceIsBlocked(socket);
+            } finally {
+                socket.close();
+            }
+        }
+    }
+
+    private static void closeWhileSourceIsBlocked(Socket socket) throws Exception {
+        InputStream in = socket.getInputStream();
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch blocked = new CountDownLatch(1);
+        ReadAheadResponseSupplier supplier = new ReadAheadResponseSupplier(() -> {
+            if (reads.incrementAndGet() == 2) {
+                blocked.countDown();
+            }
+            try {
+                return in.read() < 0 ? EOFStreamResponse.INSTANCE : new ProgressResponse(1, 0, 0, 0, 0);
+            } catch (IOException ex) {
+                throw new SQLException(ex.getMessage(), ex);
+            }
+        }, () -> 0, 4, 1000, () -> {
+            try {
+                socket.close();
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).start();
+
+        assertTrue(supplier.get() instanceof ProgressResponse);
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), supplier::close);
+        assertTrue(socket.isClosed());
+        assertNull(supplier.get());
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+}
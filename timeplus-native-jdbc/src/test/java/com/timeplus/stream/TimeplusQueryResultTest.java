@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.timeplus.stream;
+
+import com.timeplus.exception.TimeplusSQLException;
+import com.timeplus.protocol.EOFStreamResponse;
+import com.timeplus.protocol.ProgressResponse;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeplusQueryResultTest {
+
+    @Test
+    public void successfullyCancelWhenClosedBeforeEnd() throws Exception {
+        AtomicInteger cancels = new AtomicInteger();
+        TimeplusQueryResult result = new TimeplusQueryResult(() -> new ProgressResponse(1, 0, 0, 0, 0),
+                cancels::incrementAndGet);
+
+        result.close();
+        result.close();
+
+        assertEquals(1, cancels.get());
+    }
+
+    @Test
+    public void successfullyKeepConnectionWhenClosedAtEnd() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger cancels = new AtomicInteger();
+        TimeplusQueryResult result = new TimeplusQueryResult(() -> reads.incrementAndGet() == 1
+                ? new ProgressResponse(1, 0, 0, 0, 0) : EOFStreamResponse.INSTANCE, cancels::incrementAndGet);
+
+        assertEquals(0, result.header().columnCnt());
+        assertFalse(result.data().hasNext());
+        result.close();
+
+        assertEquals(0, cancels.get());
+    }
+
+    @Test
+    public void successfullyEndStreamOnServerException() throws Exception {
+        AtomicInteger cancels = new AtomicInteger();
+        TimeplusQueryResult result = new TimeplusQueryResult(() -> {
+            throw new TimeplusSQLException(60, "UNKNOWN_TABLE");
+        }, cancels::incrementAndGet);
+
+        assertThrows(TimeplusSQLException.class, result::header);
+        result.close();
+        assertEquals(0, cancels.get());
+
+        AtomicInteger failedCancels = new AtomicInteger();
+        TimeplusQueryResult failed = new TimeplusQueryResult(() -> {
+            throw new SQLException("Read timed out");
+        }, failedCancels::incrementAndGet);
+
+        assertThrows(SQLException.class, failed::header);
+        failed.close();
+        // the connection broke off, whatever is left of the query must still be dealt with
+        assertEquals(1, failedCancels.get());
+    }
+}